@@ -0,0 +1,127 @@
+package orf.demo.benchmark;
+
+import orf.demo.DemoApplication;
+import orf.demo.model.Category;
+import orf.demo.repository.CategoryRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Нагрузочный тест HTTP-слоя: одна операция — пачка из concurrency одновременных
+ * GET /api/categories/page, каждый из которых идёт в БД. Режим потоков Tomcat задают наследники:
+ * {@link WebConcurrencyBenchmark} — пул платформенных потоков, {@link VirtualThreadWebBenchmark} —
+ * виртуальные потоки; пул JDBC в обоих режимах один и тот же.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractWebConcurrencyBenchmark {
+
+    private static final int CATEGORIES = 1000;
+
+    @Param({"64", "512"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    /**
+     * Настройки потоков Tomcat для режима наследника.
+     */
+    protected abstract List<String> threadingArguments();
+
+    @Setup
+    public void setUp() {
+        // аргументы командной строки перекрывают application.properties
+        List<String> arguments = new ArrayList<>(threadingArguments());
+        arguments.addAll(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        context = SpringApplication.run(DemoApplication.class, arguments.toArray(String[]::new));
+        List<Category> categories = new ArrayList<>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            Category category = new Category();
+            category.setName("category-" + i);
+            category.setStatus(i % 2 == 0 ? "ACTIVE" : "INACTIVE");
+            categories.add(category);
+        }
+        context.getBean(CategoryRepository.class).saveAll(categories);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/categories/page?limit=50"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Ответы не-2xx (например, исчерпание пула соединений) считаются отдельно от успешных.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Responses {
+        public long succeeded;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            failed = 0;
+        }
+    }
+
+    @Benchmark
+    public int concurrentRequests(Responses responses) {
+        List<CompletableFuture<HttpResponse<Void>>> pending = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> future : pending) {
+            HttpResponse<Void> response = future.exceptionally(e -> null).join();
+            if (response != null && response.statusCode() / 100 == 2) {
+                ok++;
+            }
+        }
+        responses.succeeded += ok;
+        responses.failed += concurrency - ok;
+        return ok;
+    }
+}
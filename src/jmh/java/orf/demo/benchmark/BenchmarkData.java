@@ -0,0 +1,65 @@
+package orf.demo.benchmark;
+
+import orf.demo.checker.DawgDictionary;
+import orf.demo.checker.WordList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Общие входные данные бенчмарков: словарь из classpath и детерминированная
+ * смесь словарных слов и опечаток к ним.
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 42;
+
+    private BenchmarkData() {
+    }
+
+    static DawgDictionary dictionary() {
+        try (InputStream in = BenchmarkData.class.getResourceAsStream("/dictionary/words.txt")) {
+            if (in == null) {
+                throw new IllegalStateException("dictionary/words.txt not found on classpath");
+            }
+            return DawgDictionary.build(WordList.read(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Тот же словарь, открытый из снимка во временном файле.
+     */
+    static DawgDictionary mapped(DawgDictionary dictionary) throws IOException {
+        Path snapshot = Files.createTempFile("benchmark", ".dawg");
+        snapshot.toFile().deleteOnExit();
+        dictionary.writeSnapshot(snapshot, 0);
+        return DawgDictionary.map(snapshot);
+    }
+
+    /**
+     * Примерно половина слов — из словаря, остальные — с одной перестановкой соседних букв.
+     */
+    static List<String> words(DawgDictionary dictionary, int count) {
+        Random random = new Random(SEED);
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            char[] word = dictionary.wordAt(random.nextInt(dictionary.size())).toCharArray();
+            if (random.nextBoolean() && word.length > 1) {
+                int at = random.nextInt(word.length - 1);
+                char c = word[at];
+                word[at] = word[at + 1];
+                word[at + 1] = c;
+            }
+            words.add(new String(word));
+        }
+        return words;
+    }
+}
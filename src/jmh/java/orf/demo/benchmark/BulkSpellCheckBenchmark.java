@@ -0,0 +1,78 @@
+package orf.demo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import orf.demo.checker.DawgDictionary;
+import orf.demo.checker.SimpleSpellChecker;
+import orf.demo.checker.SpellCheckerRegistry;
+import orf.demo.checker.SymSpellSuggester;
+import orf.demo.checker.VocabularyHolder;
+import orf.demo.dto.SpellCheckResponse;
+import orf.demo.metrics.MisspellingTracker;
+import orf.demo.metrics.ServiceMetrics;
+import orf.demo.service.BulkSpellCheckEngine;
+import orf.demo.service.InterfaceSpellCheckServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * checkSpellingBulk на 1, 1k и 1M входов: накладные расходы на один вызов,
+ * типичный пакет и параллельный путь через BulkSpellCheckEngine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BulkSpellCheckBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    private int size;
+
+    @Param({"0", "3"})
+    private int suggestionLimit;
+
+    // учёт ошибочных слов в MisspellingTracker
+    @Param({"true", "false"})
+    private boolean trackMisspellings;
+
+    private BulkSpellCheckEngine engine;
+    private InterfaceSpellCheckServiceImpl service;
+    private List<String> texts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DawgDictionary dictionary = BenchmarkData.dictionary();
+        engine = new BulkSpellCheckEngine(0, 1024);
+        service = new InterfaceSpellCheckServiceImpl(SpellCheckerRegistry.of(new SimpleSpellChecker()),
+                VocabularyHolder.of(dictionary, SymSpellSuggester.build(dictionary, 2, 7)), engine, new ServiceMetrics(),
+                new ObjectMapper(), new MisspellingTracker(trackMisspellings, 4, 4096, 100, 256, Duration.ofSeconds(1),
+                        "", Duration.ofMinutes(1)), 1 << 20, 1 << 22);
+        texts = BenchmarkData.words(dictionary, size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public List<SpellCheckResponse> checkSpellingBulk() {
+        return service.checkSpellingBulk(texts, suggestionLimit);
+    }
+}
@@ -0,0 +1,102 @@
+package orf.demo.benchmark;
+
+import orf.demo.cache.CacheRegion;
+import orf.demo.cache.SpellCheckCache;
+import orf.demo.dto.SpellCheckCategoryView;
+import orf.demo.service.CacheService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кэши под конкурентной нагрузкой: в каждой группе 7 читателей на 1 писателя,
+ * ключи выбираются случайно из диапазона, превышающего ёмкость кэша.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int KEYS = 4096;
+    private static final int ENTRIES_PER_CATEGORY = 8;
+
+    private SpellCheckCache spellCheckCache;
+    private CacheService cacheService;
+    private CacheRegion<String, Integer> region;
+    private String[] keys;
+    private List<SpellCheckCategoryView> spellChecks;
+
+    @Setup
+    public void setUp() {
+        // вес — число записей в списке: в кэш помещается половина категорий
+        spellCheckCache = new SpellCheckCache(KEYS * ENTRIES_PER_CATEGORY / 2, Duration.ofMinutes(10));
+        cacheService = new CacheService();
+        region = cacheService.region("benchmark", String.class, Integer.class);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "category-" + i;
+        }
+        spellChecks = new ArrayList<>(ENTRIES_PER_CATEGORY);
+        for (int i = 0; i < ENTRIES_PER_CATEGORY; i++) {
+            spellChecks.add(new SpellCheckCategoryView((long) i, "word" + i, "Correct", null));
+        }
+    }
+
+    @Benchmark
+    @Group("spellCheckCache")
+    @GroupThreads(7)
+    public List<SpellCheckCategoryView> spellCheckCacheGet() {
+        return spellCheckCache.get(randomKey());
+    }
+
+    @Benchmark
+    @Group("spellCheckCache")
+    @GroupThreads(1)
+    public void spellCheckCachePut() {
+        spellCheckCache.put(randomKey(), spellChecks);
+    }
+
+    @Benchmark
+    @Group("cacheService")
+    @GroupThreads(7)
+    public Object cacheServiceGet() {
+        return cacheService.get(randomKey());
+    }
+
+    @Benchmark
+    @Group("cacheService")
+    @GroupThreads(1)
+    public void cacheServicePut() {
+        String key = randomKey();
+        cacheService.put(key, key);
+    }
+
+    @Benchmark
+    @Group("regionGetOrLoad")
+    @GroupThreads(8)
+    public Integer regionGetOrLoad() {
+        return region.getOrLoad(randomKey(), String::length);
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+    }
+}
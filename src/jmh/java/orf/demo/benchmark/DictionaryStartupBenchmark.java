@@ -0,0 +1,69 @@
+package orf.demo.benchmark;
+
+import orf.demo.checker.DawgDictionary;
+import orf.demo.checker.WordList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Загрузка словаря при старте: разбор списка слов и сборка DAWG против отображения готового снимка.
+ * Список синтетический (words слов), чтобы время сборки было заметным.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryStartupBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int words;
+
+    private byte[] wordList;
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder text = new StringBuilder(words * 10);
+        for (int i = 0; i < words; i++) {
+            text.append("w").append(Integer.toString(i * 7919, 36)).append('\t').append(words - i).append('\n');
+        }
+        wordList = text.toString().getBytes(StandardCharsets.UTF_8);
+        snapshot = Files.createTempFile("startup", ".dawg");
+        buildFromWordList().writeSnapshot(snapshot, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public DawgDictionary buildFromWordList() throws IOException {
+        return DawgDictionary.build(WordList.read(new ByteArrayInputStream(wordList)));
+    }
+
+    @Benchmark
+    public int mapSnapshot() throws IOException {
+        DawgDictionary dictionary = DawgDictionary.map(snapshot);
+        return dictionary.size() + dictionary.indexOf("w0");
+    }
+}
@@ -0,0 +1,76 @@
+package orf.demo.benchmark;
+
+import orf.demo.checker.DictionarySpellChecker;
+import orf.demo.checker.DocumentChecker;
+import orf.demo.checker.Tokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка документа около 1 МБ (≈ 180 тыс. слов вперемешку с пунктуацией, числами и ссылками):
+ * отдельно токенизация и весь проход с поиском в словаре. Скорость в МБ/с = 1000 / (мс на операцию).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentCheckBenchmark {
+
+    private static final int DOCUMENT_CHARS = 1 << 20;
+    private static final String[] SEPARATORS = {" ", " ", " ", ", ", ". ", "\n", " — ", "; "};
+
+    private char[] document;
+    private DocumentChecker checker;
+    private int errors;
+
+    @Setup
+    public void setUp() {
+        var dictionary = BenchmarkData.dictionary();
+        checker = new DocumentChecker(new DictionarySpellChecker(dictionary));
+        List<String> words = BenchmarkData.words(dictionary, 4096);
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(DOCUMENT_CHARS + 64);
+        while (text.length() < DOCUMENT_CHARS) {
+            int kind = random.nextInt(100);
+            if (kind == 0) {
+                text.append("https://example.com/page/").append(random.nextInt(1000));
+            } else if (kind < 4) {
+                text.append(random.nextInt(10_000));
+            } else {
+                text.append(words.get(random.nextInt(words.size())));
+            }
+            text.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        document = text.toString().toCharArray();
+    }
+
+    @Benchmark
+    public int tokenize() {
+        Tokenizer tokenizer = new Tokenizer(document);
+        int tokens = 0;
+        while (tokenizer.next()) {
+            tokens += tokenizer.length();
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public int checkDocument() {
+        errors = 0;
+        return checker.check(document, 0, document.length, (text, offset, length) -> errors++) + errors;
+    }
+}
@@ -0,0 +1,69 @@
+package orf.demo.benchmark;
+
+import orf.demo.checker.ApiSpellChecker;
+import orf.demo.checker.CachingSpellChecker;
+import orf.demo.checker.DictionarySpellChecker;
+import orf.demo.checker.SimpleSpellChecker;
+import orf.demo.checker.SpellChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка одного слова каждым чекером. Слова перебираются по кругу,
+ * чтобы не мерить один и тот же закэшированный в CPU путь.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpellCheckerBenchmark {
+
+    private static final int WORDS = 4096;
+
+    @Param({"simple", "api", "dictionary", "mappedDictionary", "cachedDictionary"})
+    private String checker;
+
+    private SpellChecker spellChecker;
+    private String[] words;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        var dictionary = BenchmarkData.dictionary();
+        spellChecker = switch (checker) {
+            case "simple" -> new SimpleSpellChecker();
+            case "api" -> new ApiSpellChecker();
+            case "dictionary" -> new DictionarySpellChecker(dictionary);
+            case "mappedDictionary" -> new DictionarySpellChecker(BenchmarkData.mapped(dictionary));
+            case "cachedDictionary" -> new CachingSpellChecker("dictionarySpellChecker",
+                    new DictionarySpellChecker(dictionary), 65536);
+            default -> throw new IllegalArgumentException("Unknown checker: " + checker);
+        };
+        words = BenchmarkData.words(dictionary, WORDS).toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String checkSpelling() {
+        return spellChecker.checkSpelling(nextWord());
+    }
+
+    private String nextWord() {
+        String word = words[next];
+        next = (next + 1) & (WORDS - 1);
+        return word;
+    }
+}
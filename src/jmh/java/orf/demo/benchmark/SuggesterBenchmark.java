@@ -0,0 +1,53 @@
+package orf.demo.benchmark;
+
+import orf.demo.checker.DawgDictionary;
+import orf.demo.checker.SymSpellSuggester;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Подсказки SymSpell для смеси словарных слов и опечаток на расстоянии 1 и 2.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggesterBenchmark {
+
+    private static final int WORDS = 4096;
+
+    @Param({"1", "2"})
+    private int maxDistance;
+
+    private SymSpellSuggester suggester;
+    private String[] words;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        DawgDictionary dictionary = BenchmarkData.dictionary();
+        suggester = SymSpellSuggester.build(dictionary, maxDistance, 7);
+        words = BenchmarkData.words(dictionary, WORDS).toArray(new String[0]);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        String word = words[next];
+        next = (next + 1) & (WORDS - 1);
+        return suggester.suggest(word, 5);
+    }
+}
@@ -0,0 +1,19 @@
+package orf.demo.benchmark;
+
+import java.util.List;
+
+/**
+ * Tomcat на виртуальных потоках, размер пула к ним не относится. Требует JDK 21+, поэтому в запуск
+ * по умолчанию (все бенчмарки профиля) не входит и запускается явно:
+ * mvn -P benchmark -DskipTests test-compile exec:exec -Djmh.args="VirtualThreadWebBenchmark -f 1"
+ */
+public class VirtualThreadWebBenchmark extends AbstractWebConcurrencyBenchmark {
+
+    @Override
+    protected List<String> threadingArguments() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads require JDK 21+, running on " + Runtime.version());
+        }
+        return List.of("--spring.threads.virtual.enabled=true");
+    }
+}
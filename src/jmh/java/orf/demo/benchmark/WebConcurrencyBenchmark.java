@@ -0,0 +1,20 @@
+package orf.demo.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.List;
+
+/**
+ * Tomcat на пуле из threads платформенных потоков:
+ * mvn -P benchmark -DskipTests test-compile exec:exec -Djmh.args="WebConcurrencyBenchmark -f 1"
+ */
+public class WebConcurrencyBenchmark extends AbstractWebConcurrencyBenchmark {
+
+    @Param({"20", "200"})
+    public int threads;
+
+    @Override
+    protected List<String> threadingArguments() {
+        return List.of("--spring.threads.virtual.enabled=false", "--server.tomcat.threads.max=" + threads);
+    }
+}
@@ -1,34 +0,0 @@
-package orf.demo.aspect;
-
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
-
-@Aspect
-@Component
-public class MyLoggingAspect {
-    private static final Logger logger = LoggerFactory.getLogger(MyLoggingAspect.class);
-
-    @Before("execution(* orf.demo.service.*.*(..))")
-    public void logBeforeServiceMethods(JoinPoint joinPoint) {
-        logger.info("Вызов метода сервиса: {}.{}", joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName());
-    }
-
-    @AfterReturning(pointcut = "execution(* orf.demo.service.*.*(..))", returning = "result")
-    public void logAfterServiceMethods(JoinPoint joinPoint, Object result) {
-        logger.info("Метод сервиса {}.{} завершён с результатом: {}", joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(), result);
-    }
-
-    @AfterThrowing(pointcut = "execution(* orf.demo.service.*.*(..))", throwing = "exception")
-    public void logAfterThrowingServiceMethods(JoinPoint joinPoint, Throwable exception) {
-        logger.error("Ошибка в методе сервиса {}.{}: {}", joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(), exception.getMessage(), exception);
-    }
-}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package orf.demo.aspect;
+
+import orf.demo.metrics.OperationMetrics;
+import orf.demo.metrics.ServiceMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Единственный аспект сервисного слоя: одна обёртка @Around вместо трёх отдельных аспектов.
+ * Пишет вызовы, ошибки по типу и гистограмму задержек в OperationMetrics.
+ * Результат логируется только на DEBUG, для выборки вызовов и с обрезкой строкового представления.
+ */
+@Aspect
+@Component
+public class ServiceInstrumentationAspect {
+    private static final Logger logger = LoggerFactory.getLogger(ServiceInstrumentationAspect.class);
+
+    private final ServiceMetrics serviceMetrics;
+    private final int logSampleRate;
+    private final int maxLoggedLength;
+
+    public ServiceInstrumentationAspect(ServiceMetrics serviceMetrics,
+                                        @Value("${instrumentation.log.sample-rate:100}") int logSampleRate,
+                                        @Value("${instrumentation.log.max-result-length:200}") int maxLoggedLength) {
+        this.serviceMetrics = serviceMetrics;
+        this.logSampleRate = Math.max(1, logSampleRate);
+        this.maxLoggedLength = maxLoggedLength;
+    }
+
+    @Around("within(orf.demo.service..*) && within(@org.springframework.stereotype.Service *)")
+    public Object instrument(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationMetrics metrics = serviceMetrics.forMethod(((MethodSignature) joinPoint.getSignature()).getMethod());
+        long start = metrics.start();
+        Throwable failure = null;
+        try {
+            Object result = joinPoint.proceed();
+            if (logger.isDebugEnabled() && ThreadLocalRandom.current().nextInt(logSampleRate) == 0) {
+                logger.debug("Метод сервиса {} завершён за {} мкс с результатом: {}", metrics.getName(),
+                        (System.nanoTime() - start) / 1000, describe(result));
+            }
+            return result;
+        } catch (Throwable exception) {
+            failure = exception;
+            logger.error("Ошибка в методе сервиса {}: {}", metrics.getName(), exception.getMessage(), exception);
+            throw exception;
+        } finally {
+            metrics.stop(start, failure);
+        }
+    }
+
+    private String describe(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        String text = String.valueOf(result);
+        return text.length() <= maxLoggedLength ? text : text.substring(0, maxLoggedLength) + "...";
+    }
+}
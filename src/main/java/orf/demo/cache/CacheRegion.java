@@ -0,0 +1,125 @@
+package orf.demo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Именованный типизированный регион кэша. getOrLoad выполняет загрузку атомарно
+ * для ключа: при одновременных промахах загрузчик вызывается один раз,
+ * остальные вызовы ждут его результата.
+ */
+public final class CacheRegion<K, V> {
+
+    private final String name;
+    private final Class<K> keyType;
+    private final Class<V> valueType;
+    private final CacheRegionSpec spec;
+    private final Cache<K, Object> cache;
+
+    public CacheRegion(String name, Class<K> keyType, Class<V> valueType, CacheRegionSpec spec) {
+        if (spec.isSerialized() && !Serializable.class.isAssignableFrom(valueType)) {
+            throw new IllegalArgumentException("Serialized region " + name + " requires Serializable values");
+        }
+        this.name = name;
+        this.keyType = keyType;
+        this.valueType = valueType;
+        this.spec = spec;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getExpiry() == CacheRegionSpec.Expiry.AFTER_ACCESS) {
+            builder.expireAfterAccess(spec.getTtl());
+        } else {
+            builder.expireAfterWrite(spec.getTtl());
+        }
+        if (spec.isSerialized()) {
+            builder.maximumWeight(spec.getMaxBytes())
+                    .weigher((Object key, Object value) -> ((byte[]) value).length);
+        } else {
+            builder.maximumSize(spec.getMaxSize());
+        }
+        this.cache = builder.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<K> getKeyType() {
+        return keyType;
+    }
+
+    public Class<V> getValueType() {
+        return valueType;
+    }
+
+    public V get(K key) {
+        return decode(cache.getIfPresent(key));
+    }
+
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        return decode(cache.get(key, k -> encode(loader.apply(k))));
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, encode(value));
+    }
+
+    public void evict(K key) {
+        cache.invalidate(key);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("serialized", spec.isSerialized());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("loads", stats.loadCount());
+        result.put("loadFailures", stats.loadFailureCount());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    private Object encode(V value) {
+        if (value == null || !spec.isSerialized()) {
+            return value;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize value for cache region " + name, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private V decode(Object stored) {
+        if (stored == null || !spec.isSerialized()) {
+            return valueType.cast(stored);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream((byte[]) stored))) {
+            return valueType.cast(in.readObject());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize value from cache region " + name, e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to deserialize value from cache region " + name, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package orf.demo.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Настройки одного региона кэша: cache.regions.&lt;name&gt;.*
+ */
+@Getter
+@Setter
+public class CacheRegionSpec {
+
+    public enum Expiry {
+        // TTL отсчитывается от записи
+        AFTER_WRITE,
+        // TTL отсчитывается от последнего обращения
+        AFTER_ACCESS
+    }
+
+    private long maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    private Expiry expiry = Expiry.AFTER_WRITE;
+    // значения хранятся в куче сериализованными копиями в byte[], ограничение — их суммарный размер maxBytes
+    // вместо maxSize
+    private boolean serialized;
+    private long maxBytes = 64L * 1024 * 1024;
+}
@@ -1,26 +1,106 @@
 package orf.demo.cache;
 
-import orf.demo.model.SpellCheckCategory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import orf.demo.dto.SpellCheckCategoryView;
+import orf.demo.model.Category;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+/**
+ * Кэш списков проверок (плоских SpellCheckCategoryView) по имени категории.
+ * Ограничен суммарным числом закэшированных проверок (вес записи — длина списка),
+ * вытеснение W-TinyLFU, записи живут не дольше TTL.
+ * Одновременные промахи по одной категории объединяются в один запрос к БД.
+ */
 @Component
 public class SpellCheckCache {
 
-    private final Map<String, List<SpellCheckCategory>> cache = new HashMap<>();
+    private final Cache<String, List<SpellCheckCategoryView>> cache;
+    private final SingleFlight<String, List<SpellCheckCategoryView>> loads = new SingleFlight<>();
+    // растёт при каждой инвалидации: загрузка, во время которой она случилась, не кладётся в кэш
+    private final AtomicLong invalidations = new AtomicLong();
 
-    public void put(String categoryName, List<SpellCheckCategory> spellChecks) {
-        cache.put(categoryName, spellChecks);
+    public SpellCheckCache(@Value("${spellcheck.cache.max-weight:100000}") long maxWeight,
+                           @Value("${spellcheck.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, List<SpellCheckCategoryView> value) -> value.size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
     }
 
-    public List<SpellCheckCategory> get(String categoryName) {
-        return cache.get(categoryName);
+    public void put(String categoryName, List<SpellCheckCategoryView> spellChecks) {
+        cache.put(categoryName, List.copyOf(spellChecks));
+    }
+
+    public List<SpellCheckCategoryView> get(String categoryName) {
+        return cache.getIfPresent(categoryName);
+    }
+
+    /**
+     * Значение из кэша, иначе результат loader; конкурентные промахи по ключу ждут одну загрузку.
+     */
+    public List<SpellCheckCategoryView> getOrLoad(String categoryName, Supplier<List<SpellCheckCategoryView>> loader) {
+        List<SpellCheckCategoryView> cached = cache.getIfPresent(categoryName);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(categoryName, () -> {
+            long generation = invalidations.get();
+            List<SpellCheckCategoryView> loaded = List.copyOf(loader.get());
+            if (generation == invalidations.get()) {
+                cache.put(categoryName, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    public void invalidate(String categoryName) {
+        if (categoryName != null) {
+            invalidations.incrementAndGet();
+            loads.forget(categoryName);
+            cache.invalidate(categoryName);
+        }
+    }
+
+    public void invalidateCategories(Collection<Category> categories) {
+        for (Category category : categories) {
+            invalidate(category.getName());
+        }
     }
 
     public void clear() {
-        cache.clear();
+        invalidations.incrementAndGet();
+        loads.forgetAll();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("evictionWeight", stats.evictionWeight());
+        result.put("loads", loads.getExecutions());
+        result.put("coalescedLoads", loads.getCoalesced());
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package orf.demo.checker;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Декоратор, запоминающий вердикты (и подсказки) для часто встречающихся слов.
+ * Таблица двухвходовая множественно-ассоциативная, без блокировок: запись — замена
+ * неизменяемого Entry в AtomicReferenceArray. Ключ — хэш нормализованного слова,
+ * считается по символам исходной строки, поэтому попадание ничего не аллоцирует.
+ * Делегат должен быть нечувствителен к регистру.
+ * Входы помечены поколением: {@link #clear()} (например, после перезагрузки словаря) начинает новое,
+ * а закреплённый через {@link #pin()} вид продолжает работать со своим поколением в той же таблице.
+ * Устаревший вид (его поколение уже не текущее) только читает: его входы никто больше не увидит,
+ * а запись вытесняла бы из таблицы входы текущего поколения.
+ */
+public class CachingSpellChecker extends AbstractSpellChecker {
+
+    private final String name;
+    private final SpellChecker delegate;
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final AtomicInteger generation;
+    // поколение закреплённого вида; -1 у самого кэша, который всегда работает с текущим
+    private final int pinnedGeneration;
+
+    public CachingSpellChecker(String name, SpellChecker delegate, int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Word cache capacity must be at least 2");
+        }
+        this.name = name;
+        this.delegate = delegate;
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.generation = new AtomicInteger();
+        this.pinnedGeneration = -1;
+    }
+
+    private CachingSpellChecker(CachingSpellChecker cache, SpellChecker delegate, int generation) {
+        this.name = cache.name;
+        this.delegate = delegate;
+        this.table = cache.table;
+        this.mask = cache.mask;
+        this.hits = cache.hits;
+        this.misses = cache.misses;
+        this.generation = cache.generation;
+        this.pinnedGeneration = generation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SpellChecker getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String checkSpelling(String word) {
+        if (word == null) {
+            return delegate.checkSpelling(null);
+        }
+        int hash = hash(word);
+        int generation = generation();
+        Entry entry = find(word, hash, generation);
+        if (entry != null) {
+            hits.increment();
+            return entry.verdict;
+        }
+        misses.increment();
+        String verdict = delegate.checkSpelling(word);
+        store(new Entry(WordList.normalize(word), hash, generation, verdict, null, 0));
+        return verdict;
+    }
+
+    // срезы документа идут мимо кэша: ключи таблицы — строки, а словарная проверка среза и так без аллокаций
+    @Override
+    public boolean isCorrect(char[] text, int offset, int length) {
+        return delegate.isCorrect(text, offset, length);
+    }
+
+    /**
+     * Подсказки из кэша, если для слова уже посчитано не меньше {@code limit} вариантов,
+     * иначе вызывает loader и запоминает результат вместе с вердиктом.
+     */
+    public List<String> suggest(String word, int limit, BiFunction<String, Integer, List<String>> loader) {
+        if (word == null) {
+            return loader.apply(null, limit);
+        }
+        int hash = hash(word);
+        int generation = generation();
+        Entry entry = find(word, hash, generation);
+        if (entry != null && entry.suggestions != null
+                && (entry.suggestionLimit >= limit || entry.suggestions.size() < entry.suggestionLimit)) {
+            hits.increment();
+            List<String> suggestions = entry.suggestions;
+            return suggestions.size() <= limit ? suggestions : suggestions.subList(0, limit);
+        }
+        misses.increment();
+        List<String> suggestions = List.copyOf(loader.apply(word, limit));
+        String verdict = entry != null ? entry.verdict : delegate.checkSpelling(word);
+        store(new Entry(WordList.normalize(word), hash, generation, verdict, suggestions, limit));
+        return suggestions;
+    }
+
+    // закреплённый вид берёт поколение до закрепления делегата: версия словаря не старше поколения
+    @Override
+    public SpellChecker pin() {
+        int current = generation();
+        SpellChecker pinnedDelegate = delegate.pin();
+        return pinnedDelegate == delegate ? this : new CachingSpellChecker(this, pinnedDelegate, current);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", table.length());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 1.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private int generation() {
+        return pinnedGeneration >= 0 ? pinnedGeneration : generation.get();
+    }
+
+    private Entry find(String word, int hash, int generation) {
+        int slot = hash & mask;
+        Entry entry = table.get(slot);
+        if (entry != null && entry.generation == generation && entry.matches(word, hash)) {
+            entry.touch();
+            return entry;
+        }
+        entry = table.get(slot ^ 1);
+        if (entry != null && entry.generation == generation && entry.matches(word, hash)) {
+            entry.touch();
+            return entry;
+        }
+        return null;
+    }
+
+    // вход чужого поколения считается свободным, иначе вытесняется вход без недавних попаданий
+    // (second chance), иначе первый
+    private void store(Entry entry) {
+        if (pinnedGeneration >= 0 && pinnedGeneration != generation.get()) {
+            return;
+        }
+        int slot = entry.hash & mask;
+        Entry first = table.get(slot);
+        Entry second = table.get(slot ^ 1);
+        int target;
+        if (first == null || first.generation != entry.generation || first.matches(entry.word, entry.hash)) {
+            target = slot;
+        } else if (second == null || second.generation != entry.generation
+                || second.matches(entry.word, entry.hash)) {
+            target = slot ^ 1;
+        } else if (!first.referenced) {
+            target = slot;
+        } else if (!second.referenced) {
+            target = slot ^ 1;
+        } else {
+            first.referenced = false;
+            target = slot ^ 1;
+        }
+        table.set(target, entry);
+    }
+
+    private static int hash(String word) {
+        int h = 0x811c9dc5;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= WordList.normalize(word.charAt(i));
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        private final String word;
+        private final int hash;
+        private final int generation;
+        private final String verdict;
+        private final List<String> suggestions;
+        private final int suggestionLimit;
+        // гонки на этом флаге безвредны: он только подсказка для вытеснения
+        private volatile boolean referenced;
+
+        Entry(String word, int hash, int generation, String verdict, List<String> suggestions,
+              int suggestionLimit) {
+            this.word = word;
+            this.hash = hash;
+            this.generation = generation;
+            this.verdict = verdict;
+            this.suggestions = suggestions;
+            this.suggestionLimit = suggestionLimit;
+        }
+
+        boolean matches(String candidate, int candidateHash) {
+            if (hash != candidateHash || word.length() != candidate.length()) {
+                return false;
+            }
+            for (int i = 0; i < word.length(); i++) {
+                if (word.charAt(i) != WordList.normalize(candidate.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void touch() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package orf.demo.checker;
+
+import java.util.List;
+
+/**
+ * Цепочка чекеров от дешёвого к дорогому (например, словарь, затем удалённый API): слово верно,
+ * как только его приняла любая ступень, и следующие ступени для него не вызываются.
+ * Вердикт «неверно» даёт только последняя ступень.
+ */
+public class ChainSpellChecker extends AbstractSpellChecker {
+
+    private final String name;
+    private final SpellChecker[] stages;
+
+    public ChainSpellChecker(String name, List<? extends SpellChecker> stages) {
+        this(name, stages.toArray(new SpellChecker[0]));
+    }
+
+    private ChainSpellChecker(String name, SpellChecker[] stages) {
+        if (stages.length == 0) {
+            throw new IllegalArgumentException("Checker chain " + name + " must have at least one stage");
+        }
+        this.name = name;
+        this.stages = stages;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<SpellChecker> getStages() {
+        return List.of(stages);
+    }
+
+    @Override
+    public String checkSpelling(String word) {
+        int last = stages.length - 1;
+        for (int i = 0; i < last; i++) {
+            if ("Correct".equals(stages[i].checkSpelling(word))) {
+                return "Correct";
+            }
+        }
+        return stages[last].checkSpelling(word);
+    }
+
+    @Override
+    public boolean isCorrect(char[] text, int offset, int length) {
+        for (SpellChecker stage : stages) {
+            if (stage.isCorrect(text, offset, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public SpellChecker pin() {
+        SpellChecker[] pinned = new SpellChecker[stages.length];
+        boolean changed = false;
+        for (int i = 0; i < stages.length; i++) {
+            pinned[i] = stages[i].pin();
+            changed |= pinned[i] != stages[i];
+        }
+        return changed ? new ChainSpellChecker(name, pinned) : this;
+    }
+}
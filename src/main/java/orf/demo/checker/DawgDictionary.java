@@ -0,0 +1,506 @@
+package orf.demo.checker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Неизменяемый минимальный ациклический автомат (DAWG) над словарём.
+ * Узлы и рёбра упакованы в плоские массивы: поиск слова — бинарный поиск
+ * среди рёбер узла на каждый символ, без аллокаций.
+ * Каждое слово получает порядковый номер (позицию в отсортированном словаре),
+ * по которому хранится его частота.
+ * Массивы доступны через буферы: собранный в памяти словарь оборачивает обычные массивы,
+ * а снимок с диска ({@link #map(Path)}) работает прямо по отображённому файлу без разбора,
+ * и его страницы делят все JVM на хосте.
+ */
+public final class DawgDictionary {
+
+    private static final int ROOT = 0;
+
+    // формат снимка: заголовок, затем секции в порядке полей, каждая выровнена по 8 байт, little-endian
+    private static final int MAGIC = 0x47574144; // "DAWG"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    // рёбра узла n: [firstEdge[n], firstEdge[n + 1])
+    private final IntBuffer firstEdge;
+    private final CharBuffer labels;
+    private final IntBuffer targets;
+    // число слов, лексикографически предшествующих слову, идущему по ребру
+    private final IntBuffer edgeRanks;
+    private final LongBuffer terminals;
+    private final IntBuffer frequencies;
+    private final long sourceStamp;
+    private final boolean mapped;
+
+    DawgDictionary(int[] firstEdge, char[] labels, int[] targets, int[] edgeRanks,
+                   long[] terminals, int[] frequencies) {
+        this(IntBuffer.wrap(firstEdge), CharBuffer.wrap(labels), IntBuffer.wrap(targets), IntBuffer.wrap(edgeRanks),
+                LongBuffer.wrap(terminals), IntBuffer.wrap(frequencies), 0, false);
+    }
+
+    private DawgDictionary(IntBuffer firstEdge, CharBuffer labels, IntBuffer targets, IntBuffer edgeRanks,
+                           LongBuffer terminals, IntBuffer frequencies, long sourceStamp, boolean mapped) {
+        this.firstEdge = firstEdge;
+        this.labels = labels;
+        this.targets = targets;
+        this.edgeRanks = edgeRanks;
+        this.terminals = terminals;
+        this.frequencies = frequencies;
+        this.sourceStamp = sourceStamp;
+        this.mapped = mapped;
+    }
+
+    public static DawgDictionary build(WordList words) {
+        Builder builder = new Builder();
+        for (int i = 0; i < words.size(); i++) {
+            builder.add(words.word(i));
+        }
+        int[] frequencies = new int[words.size()];
+        for (int i = 0; i < frequencies.length; i++) {
+            frequencies[i] = words.frequency(i);
+        }
+        return builder.freeze(frequencies);
+    }
+
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Порядковый номер слова в словаре или -1. Регистр не учитывается.
+     */
+    public int indexOf(CharSequence word) {
+        return indexOf(word, 0, word.length());
+    }
+
+    public int indexOf(CharSequence word, int offset, int length) {
+        int node = ROOT;
+        int rank = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int edge = findEdge(node, WordList.normalize(word.charAt(i)));
+            if (edge < 0) {
+                return -1;
+            }
+            rank += edgeRanks.get(edge);
+            node = targets.get(edge);
+        }
+        return isTerminal(node) ? rank : -1;
+    }
+
+    public int indexOf(char[] word, int offset, int length) {
+        int node = ROOT;
+        int rank = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int edge = findEdge(node, WordList.normalize(word[i]));
+            if (edge < 0) {
+                return -1;
+            }
+            rank += edgeRanks.get(edge);
+            node = targets.get(edge);
+        }
+        return isTerminal(node) ? rank : -1;
+    }
+
+    /**
+     * Восстанавливает слово по порядковому номеру в переданный буфер.
+     * Возвращает длину слова или -(нужная длина) - 1, если буфер мал.
+     */
+    public int wordAt(int index, char[] buffer) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Word index out of range: " + index);
+        }
+        int node = ROOT;
+        int remaining = index;
+        int length = 0;
+        while (!(isTerminal(node) && remaining == 0)) {
+            // последнее ребро узла с edgeRanks[edge] <= remaining
+            int low = firstEdge.get(node);
+            int high = firstEdge.get(node + 1) - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (edgeRanks.get(mid) <= remaining) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            int edge = low;
+            remaining -= edgeRanks.get(edge);
+            if (length < buffer.length) {
+                buffer[length] = labels.get(edge);
+            }
+            length++;
+            node = targets.get(edge);
+        }
+        return length <= buffer.length ? length : -length - 1;
+    }
+
+    public String wordAt(int index) {
+        char[] buffer = new char[32];
+        int length = wordAt(index, buffer);
+        if (length < 0) {
+            buffer = new char[-length - 1];
+            length = wordAt(index, buffer);
+        }
+        return new String(buffer, 0, length);
+    }
+
+    public int frequency(int index) {
+        return frequencies.get(index);
+    }
+
+    public int size() {
+        return frequencies.capacity();
+    }
+
+    public int nodeCount() {
+        return firstEdge.capacity() - 1;
+    }
+
+    public int edgeCount() {
+        return labels.capacity();
+    }
+
+    public long estimatedSizeInBytes() {
+        return 4L * firstEdge.capacity() + 2L * labels.capacity() + 4L * targets.capacity()
+                + 4L * edgeRanks.capacity() + 8L * terminals.capacity() + 4L * frequencies.capacity();
+    }
+
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * Отметка исходного списка слов, записанная в снимок (0 — не задана); по ней решают, не устарел ли снимок.
+     */
+    public long getSourceStamp() {
+        return sourceStamp;
+    }
+
+    /**
+     * Записывает снимок словаря атомарно: во временный файл рядом и переименованием, поэтому
+     * процессы, уже отобразившие старый файл, продолжают работать со своей копией.
+     */
+    public void writeSnapshot(Path path, long sourceStamp) throws IOException {
+        long[] sizes = sectionSizes(firstEdge.capacity(), labels.capacity(), terminals.capacity(),
+                frequencies.capacity());
+        long[] offsets = sectionOffsets(sizes);
+        long total = align(offsets[offsets.length - 1] + sizes[sizes.length - 1]);
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Dictionary snapshot exceeds 2 GB: " + total);
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) total).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putLong(sourceStamp)
+                .putInt(firstEdge.capacity()).putInt(labels.capacity()).putInt(terminals.capacity())
+                .putInt(frequencies.capacity());
+        out.position((int) offsets[0]);
+        for (int i = 0; i < firstEdge.capacity(); i++) {
+            out.putInt(firstEdge.get(i));
+        }
+        out.position((int) offsets[1]);
+        for (int i = 0; i < labels.capacity(); i++) {
+            out.putChar(labels.get(i));
+        }
+        out.position((int) offsets[2]);
+        for (int i = 0; i < targets.capacity(); i++) {
+            out.putInt(targets.get(i));
+        }
+        out.position((int) offsets[3]);
+        for (int i = 0; i < edgeRanks.capacity(); i++) {
+            out.putInt(edgeRanks.get(i));
+        }
+        out.position((int) offsets[4]);
+        for (int i = 0; i < terminals.capacity(); i++) {
+            out.putLong(terminals.get(i));
+        }
+        out.position((int) offsets[5]);
+        for (int i = 0; i < frequencies.capacity(); i++) {
+            out.putInt(frequencies.get(i));
+        }
+        out.clear();
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Открывает снимок через FileChannel.map: время не зависит от размера словаря,
+     * страницы подгружаются ОС по мере обращения. Отображение живёт, пока жив словарь.
+     */
+    public static DawgDictionary map(Path path) throws IOException {
+        MappedByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Dictionary snapshot exceeds 2 GB: " + path);
+            }
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer in = file.order(ByteOrder.LITTLE_ENDIAN);
+        if (in.capacity() < HEADER_SIZE || in.getInt(0) != MAGIC) {
+            throw new IOException("Not a dictionary snapshot: " + path);
+        }
+        if (in.getInt(4) != VERSION) {
+            throw new IOException("Unsupported dictionary snapshot version " + in.getInt(4) + ": " + path);
+        }
+        int nodes = in.getInt(16);
+        int edges = in.getInt(20);
+        int terminalWords = in.getInt(24);
+        int words = in.getInt(28);
+        if (nodes < 1 || edges < 0 || terminalWords < 0 || words < 0) {
+            throw new IOException("Corrupt dictionary snapshot header: " + path);
+        }
+        long[] sizes = sectionSizes(nodes, edges, terminalWords, words);
+        long[] offsets = sectionOffsets(sizes);
+        if (offsets[offsets.length - 1] + sizes[sizes.length - 1] > in.capacity()) {
+            throw new IOException("Truncated dictionary snapshot: " + path);
+        }
+        return new DawgDictionary(
+                section(in, offsets[0], sizes[0]).asIntBuffer(),
+                section(in, offsets[1], sizes[1]).asCharBuffer(),
+                section(in, offsets[2], sizes[2]).asIntBuffer(),
+                section(in, offsets[3], sizes[3]).asIntBuffer(),
+                section(in, offsets[4], sizes[4]).asLongBuffer(),
+                section(in, offsets[5], sizes[5]).asIntBuffer(),
+                in.getLong(8), true);
+    }
+
+    // firstEdge, labels, targets, edgeRanks, terminals, frequencies
+    private static long[] sectionSizes(int nodes, int edges, int terminalWords, int words) {
+        return new long[]{4L * nodes, 2L * edges, 4L * edges, 4L * edges, 8L * terminalWords, 4L * words};
+    }
+
+    private static long[] sectionOffsets(long[] sizes) {
+        long[] offsets = new long[sizes.length];
+        long offset = HEADER_SIZE;
+        for (int i = 0; i < sizes.length; i++) {
+            offsets[i] = offset;
+            offset = align(offset + sizes[i]);
+        }
+        return offsets;
+    }
+
+    private static ByteBuffer section(ByteBuffer file, long offset, long size) {
+        return file.slice((int) offset, (int) size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private int findEdge(int node, char label) {
+        int low = firstEdge.get(node);
+        int high = firstEdge.get(node + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = labels.get(mid);
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isTerminal(int node) {
+        return (terminals.get(node >>> 6) & (1L << node)) != 0;
+    }
+
+    /**
+     * Инкрементальное построение минимального автомата по отсортированным словам
+     * (алгоритм Daciuk et al.): в памяти живёт только уже минимизированная часть.
+     */
+    static final class Builder {
+
+        private final State root = new State();
+        private final Map<State, State> register = new HashMap<>();
+        private String previous = "";
+
+        void add(String word) {
+            if (!previous.isEmpty() && word.compareTo(previous) <= 0) {
+                throw new IllegalArgumentException("Words must be unique and sorted: " + word);
+            }
+            int prefix = commonPrefix(previous, word);
+            State last = root;
+            for (int i = 0; i < prefix; i++) {
+                last = last.lastChild();
+            }
+            if (last.size > 0) {
+                replaceOrRegister(last);
+            }
+            State state = last;
+            for (int i = prefix; i < word.length(); i++) {
+                State next = new State();
+                state.addChild(word.charAt(i), next);
+                state = next;
+            }
+            state.terminal = true;
+            previous = word;
+        }
+
+        DawgDictionary freeze(int[] frequencies) {
+            if (root.size > 0) {
+                replaceOrRegister(root);
+            }
+            List<State> states = new ArrayList<>();
+            number(root, states);
+            int edges = 0;
+            for (State state : states) {
+                edges += state.size;
+            }
+            int[] firstEdge = new int[states.size() + 1];
+            char[] labels = new char[edges];
+            int[] targets = new int[edges];
+            int[] edgeRanks = new int[edges];
+            long[] terminals = new long[(states.size() + 63) >>> 6];
+            int edge = 0;
+            for (int node = 0; node < states.size(); node++) {
+                State state = states.get(node);
+                firstEdge[node] = edge;
+                if (state.terminal) {
+                    terminals[node >>> 6] |= 1L << node;
+                }
+                int rank = state.terminal ? 1 : 0;
+                for (int i = 0; i < state.size; i++) {
+                    labels[edge] = state.labels[i];
+                    targets[edge] = state.targets[i].id;
+                    edgeRanks[edge] = rank;
+                    rank += state.targets[i].words;
+                    edge++;
+                }
+            }
+            firstEdge[states.size()] = edge;
+            if (root.words != frequencies.length) {
+                throw new IllegalStateException("Frequency table does not match dictionary size");
+            }
+            return new DawgDictionary(firstEdge, labels, targets, edgeRanks, terminals, frequencies);
+        }
+
+        private void replaceOrRegister(State state) {
+            State child = state.lastChild();
+            if (child.size > 0) {
+                replaceOrRegister(child);
+            }
+            child.seal();
+            State existing = register.putIfAbsent(child, child);
+            if (existing != null) {
+                state.targets[state.size - 1] = existing;
+            }
+        }
+
+        // корень получает номер 0, остальные — в порядке обхода в глубину
+        private static void number(State state, List<State> states) {
+            state.id = states.size();
+            states.add(state);
+            int words = state.terminal ? 1 : 0;
+            for (int i = 0; i < state.size; i++) {
+                State child = state.targets[i];
+                if (child.id < 0) {
+                    number(child, states);
+                }
+                words += child.words;
+            }
+            state.words = words;
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int limit = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < limit && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    private static final class State {
+
+        private char[] labels = new char[2];
+        private State[] targets = new State[2];
+        private int size;
+        private boolean terminal;
+        private int hash;
+        private int id = -1;
+        private int words;
+
+        void addChild(char label, State target) {
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+            }
+            labels[size] = label;
+            targets[size] = target;
+            size++;
+        }
+
+        State lastChild() {
+            return targets[size - 1];
+        }
+
+        // вызывается, когда состояние больше не меняется и попадает в реестр
+        void seal() {
+            labels = Arrays.copyOf(labels, size);
+            targets = Arrays.copyOf(targets, size);
+            int h = terminal ? 1 : 0;
+            for (int i = 0; i < size; i++) {
+                h = 31 * h + labels[i];
+                h = 31 * h + System.identityHashCode(targets[i]);
+            }
+            hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof State)) {
+                return false;
+            }
+            State other = (State) o;
+            if (terminal != other.terminal || size != other.size || hash != other.hash) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (labels[i] != other.labels[i] || targets[i] != other.targets[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package orf.demo.checker;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Проверка по DAWG-словарю. Бин читает текущую версию из {@link VocabularyHolder} на каждое слово,
+ * поэтому перезагрузка словаря подхватывается без пересоздания чекера; {@link #pin()} фиксирует версию.
+ */
+@Component
+public class DictionarySpellChecker extends AbstractSpellChecker {
+
+    // у закреплённого чекера vocabulary == null, а словарь задан сразу
+    private final VocabularyHolder vocabulary;
+    private final DawgDictionary pinned;
+
+    @Autowired
+    public DictionarySpellChecker(VocabularyHolder vocabulary) {
+        this.vocabulary = vocabulary;
+        this.pinned = null;
+    }
+
+    public DictionarySpellChecker(DawgDictionary dictionary) {
+        this.vocabulary = null;
+        this.pinned = dictionary;
+    }
+
+    @Override
+    public String checkSpelling(String word) {
+        if (word == null || word.isEmpty()) {
+            return "Incorrect";
+        }
+        return dictionary().contains(word) ? "Correct" : "Incorrect";
+    }
+
+    @Override
+    public boolean isCorrect(char[] text, int offset, int length) {
+        return length > 0 && dictionary().indexOf(text, offset, length) >= 0;
+    }
+
+    @Override
+    public SpellChecker pin() {
+        return vocabulary == null ? this : new DictionarySpellChecker(vocabulary.get().getDictionary());
+    }
+
+    private DawgDictionary dictionary() {
+        return pinned != null ? pinned : vocabulary.get().getDictionary();
+    }
+}
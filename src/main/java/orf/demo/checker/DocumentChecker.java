@@ -0,0 +1,81 @@
+package orf.demo.checker;
+
+/**
+ * Проверка документа за один проход: токенизация, приведение регистра и поиск в словаре
+ * работают по срезам исходного char[], память выделяется только под найденные ошибки
+ * (и под буфер для редких слов с диакритикой). Числа и ссылки не проверяются.
+ * Слово через дефис считается верным, если в словаре есть оно целиком или каждая его часть;
+ * иначе ошибками становятся неизвестные части.
+ */
+public final class DocumentChecker {
+
+    /**
+     * Получатель ошибок: срез документа с неизвестным словом.
+     */
+    @FunctionalInterface
+    public interface ErrorSink {
+        void error(char[] text, int offset, int length);
+    }
+
+    private final SpellChecker checker;
+
+    public DocumentChecker(SpellChecker checker) {
+        this.checker = checker;
+    }
+
+    /**
+     * Возвращает число проверенных слов.
+     */
+    public int check(char[] text, int offset, int length, ErrorSink sink) {
+        Tokenizer tokenizer = new Tokenizer(text, offset, length);
+        char[] scratch = null;
+        int words = 0;
+        while (tokenizer.next()) {
+            if (tokenizer.type() != Tokenizer.Type.WORD) {
+                continue;
+            }
+            words++;
+            int start = tokenizer.start();
+            int tokenLength = tokenizer.length();
+            if (tokenizer.hasMarks()) {
+                if (scratch == null || scratch.length < tokenLength) {
+                    scratch = new char[Math.max(tokenLength, 32)];
+                }
+                if (!checker.isCorrect(scratch, 0, tokenizer.copyWithoutMarks(scratch))) {
+                    sink.error(text, start, tokenLength);
+                }
+            } else if (!checker.isCorrect(text, start, tokenLength)) {
+                checkParts(text, start, tokenLength, sink);
+            }
+        }
+        return words;
+    }
+
+    private void checkParts(char[] text, int start, int length, ErrorSink sink) {
+        int end = start + length;
+        int hyphen = indexOfHyphen(text, start, end);
+        if (hyphen < 0) {
+            sink.error(text, start, length);
+            return;
+        }
+        int partStart = start;
+        while (partStart < end) {
+            int partEnd = hyphen < 0 ? end : hyphen;
+            if (!checker.isCorrect(text, partStart, partEnd - partStart)) {
+                sink.error(text, partStart, partEnd - partStart);
+            }
+            partStart = partEnd + 1;
+            hyphen = indexOfHyphen(text, partStart, end);
+        }
+    }
+
+    private static int indexOfHyphen(char[] text, int from, int end) {
+        for (int i = from; i < end; i++) {
+            char c = text[i];
+            if (c == '-' || c == '\u2010' || c == '\u2011') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
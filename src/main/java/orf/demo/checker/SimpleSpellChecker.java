@@ -12,4 +12,9 @@ public class SimpleSpellChecker extends AbstractSpellChecker {
         }
         return word.length() > 3 ? "Correct" : "Incorrect";
     }
+
+    @Override
+    public boolean isCorrect(char[] text, int offset, int length) {
+        return length > 3;
+    }
 }
\ No newline at end of file
@@ -2,4 +2,19 @@ package orf.demo.checker;
 
 public interface SpellChecker {
     String checkSpelling(String word);
-}
\ No newline at end of file
+
+    /**
+     * Проверка слова, заданного срезом массива. Словарные реализации переопределяют её без создания строки.
+     */
+    default boolean isCorrect(char[] text, int offset, int length) {
+        return "Correct".equals(checkSpelling(new String(text, offset, length)));
+    }
+
+    /**
+     * Чекер, закреплённый за текущей версией словаря: перезагрузка словаря не меняет его вердикты.
+     * Берётся на время одного bulk-запроса. Чекеры без словаря возвращают себя.
+     */
+    default SpellChecker pin() {
+        return this;
+    }
+}
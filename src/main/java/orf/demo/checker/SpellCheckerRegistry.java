@@ -0,0 +1,156 @@
+package orf.demo.checker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Маршрутизация проверки: чекер по категории, по языку или по умолчанию.
+ * Для каждого запроса строится {@link Route}: выбор по категории и явному языку делается
+ * один раз, а при автоопределении языка таблица «письменность → чекер» заполняется сразу,
+ * так что в bulk-цикле на каждый текст остаётся определить письменность по первой букве.
+ */
+public final class SpellCheckerRegistry {
+
+    private final SpellChecker defaultChecker;
+    private final Map<String, SpellChecker> byLanguage;
+    private final Map<String, SpellChecker> byCategory;
+
+    public SpellCheckerRegistry(SpellChecker defaultChecker, Map<String, SpellChecker> byLanguage,
+                                Map<String, SpellChecker> byCategory) {
+        this.defaultChecker = defaultChecker;
+        this.byLanguage = Map.copyOf(byLanguage);
+        this.byCategory = Map.copyOf(byCategory);
+    }
+
+    public static SpellCheckerRegistry of(SpellChecker defaultChecker) {
+        return new SpellCheckerRegistry(defaultChecker, Map.of(), Map.of());
+    }
+
+    public SpellChecker getDefault() {
+        return defaultChecker;
+    }
+
+    /**
+     * Маршрут одного запроса. Категория без своего маршрута не ошибка — работает выбор по языку;
+     * неизвестный явно указанный язык — ошибка запроса.
+     */
+    public Route route(String language, String category) {
+        if (category != null && byCategory.containsKey(category)) {
+            return new Route(byCategory.get(category), null, null);
+        }
+        if (language != null && !language.isBlank()) {
+            SpellChecker checker = byLanguage.get(language.toLowerCase());
+            if (checker == null) {
+                throw new IllegalArgumentException("Unsupported language: " + language);
+            }
+            return new Route(checker, null, null);
+        }
+        if (byLanguage.isEmpty()) {
+            return new Route(defaultChecker, null, null);
+        }
+        // автоопределение различает только латиницу (en) и кириллицу (ru)
+        return new Route(defaultChecker, byLanguage.getOrDefault("en", defaultChecker),
+                byLanguage.getOrDefault("ru", defaultChecker));
+    }
+
+    public Route defaultRoute() {
+        return route(null, null);
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        routes.put("default", nameOf(defaultChecker));
+        Map<String, Object> languages = new LinkedHashMap<>();
+        byLanguage.forEach((language, checker) -> languages.put(language, nameOf(checker)));
+        routes.put("languages", languages);
+        Map<String, Object> categories = new LinkedHashMap<>();
+        byCategory.forEach((category, checker) -> categories.put(category, nameOf(checker)));
+        routes.put("categories", categories);
+        return routes;
+    }
+
+    private static Object nameOf(SpellChecker checker) {
+        if (checker instanceof ChainSpellChecker chain) {
+            return chain.getStages().stream().map(SpellCheckerRegistry::nameOf).toList();
+        }
+        if (checker instanceof CachingSpellChecker caching) {
+            return caching.getName();
+        }
+        return checker.getClass().getSimpleName();
+    }
+
+    /**
+     * Выбранный для запроса чекер. Неизменяем, поэтому один маршрут обслуживает все потоки bulk-запроса.
+     * Если latin и cyrillic не заданы, всё идёт в fixed; иначе письменность определяется по первой букве
+     * каждого слова или текста.
+     */
+    public static final class Route extends AbstractSpellChecker {
+
+        private final SpellChecker fixed;
+        private final SpellChecker latin;
+        private final SpellChecker cyrillic;
+
+        private Route(SpellChecker fixed, SpellChecker latin, SpellChecker cyrillic) {
+            this.fixed = fixed;
+            this.latin = latin;
+            this.cyrillic = cyrillic;
+        }
+
+        public SpellChecker checkerFor(CharSequence text) {
+            if (latin == null || text == null) {
+                return fixed;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                SpellChecker checker = byScript(text.charAt(i));
+                if (checker != null) {
+                    return checker;
+                }
+            }
+            return fixed;
+        }
+
+        public SpellChecker checkerFor(char[] text, int offset, int length) {
+            if (latin == null) {
+                return fixed;
+            }
+            for (int i = offset, end = offset + length; i < end; i++) {
+                SpellChecker checker = byScript(text[i]);
+                if (checker != null) {
+                    return checker;
+                }
+            }
+            return fixed;
+        }
+
+        @Override
+        public Route pin() {
+            return new Route(fixed.pin(), latin == null ? null : latin.pin(),
+                    cyrillic == null ? null : cyrillic.pin());
+        }
+
+        @Override
+        public String checkSpelling(String word) {
+            return checkerFor(word).checkSpelling(word);
+        }
+
+        @Override
+        public boolean isCorrect(char[] text, int offset, int length) {
+            return checkerFor(text, offset, length).isCorrect(text, offset, length);
+        }
+
+        // null, пока не встретилась буква; буквы прочих письменностей идут в чекер по умолчанию
+        private SpellChecker byScript(char c) {
+            if (c < 0x80) {
+                return (c | 0x20) >= 'a' && (c | 0x20) <= 'z' ? latin : null;
+            }
+            if (!Character.isLetter(c)) {
+                return null;
+            }
+            Character.UnicodeScript script = Character.UnicodeScript.of(c);
+            if (script == Character.UnicodeScript.CYRILLIC) {
+                return cyrillic;
+            }
+            return script == Character.UnicodeScript.LATIN ? latin : fixed;
+        }
+    }
+}
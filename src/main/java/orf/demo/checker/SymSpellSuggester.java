@@ -0,0 +1,388 @@
+package orf.demo.checker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Подбор исправлений в пределах заданного расстояния редактирования (SymSpell).
+ * Для каждого слова словаря заранее вычисляются удаления символов из префикса,
+ * их 64-битные хэши раскладываются в открытую хэш-таблицу long -> список номеров слов.
+ * Поиск генерирует удаления только для входного слова и проверяет кандидатов
+ * расстоянием Дамерау-Левенштейна, словарь при этом не сканируется.
+ * Для проверки кандидатов слова лежат подряд в одном char[]: восстановление
+ * слова из автомата стоит несколько промахов кэша на символ.
+ */
+public final class SymSpellSuggester {
+
+    private static final long EMPTY = 0L;
+
+    private final DawgDictionary dictionary;
+    // слово с номером n: pool[wordStart[n], wordStart[n + 1])
+    private final char[] pool;
+    private final int[] wordStart;
+    private final int maxDistance;
+    private final int prefixLength;
+    private final int maxWordLength;
+
+    // открытая адресация: tableKeys[slot] -> hash удаления, tableIndex[slot] -> позиция в offsets
+    private final long[] tableKeys;
+    private final int[] tableIndex;
+    private final int mask;
+    // номера слов для ключа k: postings[offsets[k], offsets[k + 1])
+    private final int[] offsets;
+    private final int[] postings;
+
+    private SymSpellSuggester(DawgDictionary dictionary, char[] pool, int[] wordStart,
+                              int maxDistance, int prefixLength, int maxWordLength,
+                              long[] tableKeys, int[] tableIndex, int[] offsets, int[] postings) {
+        this.dictionary = dictionary;
+        this.pool = pool;
+        this.wordStart = wordStart;
+        this.maxDistance = maxDistance;
+        this.prefixLength = prefixLength;
+        this.maxWordLength = maxWordLength;
+        this.tableKeys = tableKeys;
+        this.tableIndex = tableIndex;
+        this.mask = tableKeys.length - 1;
+        this.offsets = offsets;
+        this.postings = postings;
+    }
+
+    public static SymSpellSuggester build(DawgDictionary dictionary, int maxDistance, int prefixLength) {
+        if (maxDistance < 0 || maxDistance > 2) {
+            throw new IllegalArgumentException("Max edit distance must be between 0 and 2");
+        }
+        if (prefixLength <= maxDistance) {
+            throw new IllegalArgumentException("Prefix length must be greater than max edit distance");
+        }
+        int perWord = deleteCount(prefixLength, maxDistance);
+        long[] pairHashes = new long[Math.max(16, dictionary.size() * Math.min(perWord, 8))];
+        int[] pairWords = new int[pairHashes.length];
+        long[] wordDeletes = new long[perWord];
+        char[] buffer = new char[64];
+        char[] pool = new char[Math.max(16, dictionary.size() * 8)];
+        int[] wordStart = new int[dictionary.size() + 1];
+        int pairs = 0;
+        int maxWordLength = 0;
+        for (int word = 0; word < dictionary.size(); word++) {
+            int length = dictionary.wordAt(word, buffer);
+            if (length < 0) {
+                buffer = new char[-length - 1];
+                length = dictionary.wordAt(word, buffer);
+            }
+            maxWordLength = Math.max(maxWordLength, length);
+            int start = wordStart[word];
+            if (start + length > pool.length) {
+                pool = Arrays.copyOf(pool, Math.max(pool.length * 2, start + length));
+            }
+            System.arraycopy(buffer, 0, pool, start, length);
+            wordStart[word + 1] = start + length;
+            int count = deletes(buffer, Math.min(length, prefixLength), maxDistance, wordDeletes);
+            Arrays.sort(wordDeletes, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (i > 0 && wordDeletes[i] == wordDeletes[i - 1]) {
+                    continue;
+                }
+                if (pairs == pairHashes.length) {
+                    pairHashes = Arrays.copyOf(pairHashes, pairs * 2);
+                    pairWords = Arrays.copyOf(pairWords, pairs * 2);
+                }
+                pairHashes[pairs] = wordDeletes[i];
+                pairWords[pairs] = word;
+                pairs++;
+            }
+        }
+        sortPairs(pairHashes, pairWords, pairs);
+
+        int keys = 0;
+        for (int i = 0; i < pairs; i++) {
+            if (i == 0 || pairHashes[i] != pairHashes[i - 1]) {
+                keys++;
+            }
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, keys * 2 - 1)) << 1;
+        long[] tableKeys = new long[capacity];
+        int[] tableIndex = new int[capacity];
+        int[] offsets = new int[keys + 1];
+        int[] postings = Arrays.copyOf(pairWords, pairs);
+        int key = -1;
+        for (int i = 0; i < pairs; i++) {
+            if (i == 0 || pairHashes[i] != pairHashes[i - 1]) {
+                key++;
+                offsets[key] = i;
+                int slot = (int) mix(pairHashes[i]) & (capacity - 1);
+                while (tableKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                tableKeys[slot] = pairHashes[i];
+                tableIndex[slot] = key;
+            }
+        }
+        offsets[keys] = pairs;
+        pool = Arrays.copyOf(pool, wordStart[dictionary.size()]);
+        return new SymSpellSuggester(dictionary, pool, wordStart, maxDistance, prefixLength, maxWordLength,
+                tableKeys, tableIndex, offsets, postings);
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * До {@code limit} исправлений, отсортированных по расстоянию, затем по убыванию частоты.
+     */
+    public List<String> suggest(String word, int limit) {
+        return suggest(word, maxDistance, limit);
+    }
+
+    public List<String> suggest(String word, int distance, int limit) {
+        if (word == null || word.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int maxEdits = Math.min(distance, maxDistance);
+        char[] input = new char[word.length()];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = WordList.normalize(word.charAt(i));
+        }
+        if (input.length - maxEdits > maxWordLength) {
+            return Collections.emptyList();
+        }
+
+        long[] inputDeletes = new long[deleteCount(prefixLength, maxEdits)];
+        int count = deletes(input, Math.min(input.length, prefixLength), maxEdits, inputDeletes);
+
+        // больше слов, чем в словаре, не найдётся
+        Candidates candidates = new Candidates(Math.min(limit, wordStart.length - 1));
+        IntSet seen = new IntSet();
+        int[][] rows = new int[3][input.length + maxEdits + 1];
+        for (int i = 0; i < count; i++) {
+            int key = find(inputDeletes[i]);
+            if (key < 0) {
+                continue;
+            }
+            for (int p = offsets[key]; p < offsets[key + 1]; p++) {
+                int ordinal = postings[p];
+                if (!seen.add(ordinal)) {
+                    continue;
+                }
+                int start = wordStart[ordinal];
+                int length = wordStart[ordinal + 1] - start;
+                if (Math.abs(length - input.length) > maxEdits) {
+                    continue;
+                }
+                int d = distance(input, pool, start, length, maxEdits, rows);
+                if (d <= maxEdits) {
+                    candidates.offer(ordinal, d, dictionary.frequency(ordinal));
+                }
+            }
+        }
+        return candidates.toWords(pool, wordStart);
+    }
+
+    private int find(long hash) {
+        int slot = (int) mix(hash) & mask;
+        long key;
+        while ((key = tableKeys[slot]) != EMPTY) {
+            if (key == hash) {
+                return tableIndex[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // хэши самой строки и всех строк, полученных удалением 1..maxDistance символов
+    private static int deletes(char[] word, int length, int maxDistance, long[] out) {
+        int count = 0;
+        out[count++] = hash(word, length, -1, -1);
+        if (maxDistance >= 1) {
+            for (int i = 0; i < length; i++) {
+                out[count++] = hash(word, length, i, -1);
+            }
+        }
+        if (maxDistance >= 2) {
+            for (int i = 0; i < length; i++) {
+                for (int j = i + 1; j < length; j++) {
+                    out[count++] = hash(word, length, i, j);
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int deleteCount(int length, int maxDistance) {
+        int count = 1;
+        if (maxDistance >= 1) {
+            count += length;
+        }
+        if (maxDistance >= 2) {
+            count += length * (length - 1) / 2;
+        }
+        return count;
+    }
+
+    private static long hash(char[] word, int length, int skipA, int skipB) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < length; i++) {
+            if (i == skipA || i == skipB) {
+                continue;
+            }
+            h ^= word[i];
+            h *= 0x100000001b3L;
+        }
+        h ^= length - (skipA >= 0 ? 1 : 0) - (skipB >= 0 ? 1 : 0);
+        h = mix(h);
+        // 0 зарезервирован под пустой слот
+        return h == EMPTY ? 1 : h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // ограниченное расстояние Дамерау-Левенштейна (optimal string alignment)
+    private static int distance(char[] a, char[] b, int bOffset, int bLength, int max, int[][] rows) {
+        int aLength = a.length;
+        int[] previous2 = rows[0];
+        int[] previous = rows[1];
+        int[] current = rows[2];
+        for (int j = 0; j <= bLength; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= aLength; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= bLength; j++) {
+                int cost = a[i - 1] == b[bOffset + j - 1] ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a[i - 1] == b[bOffset + j - 2] && a[i - 2] == b[bOffset + j - 1]) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] tmp = previous2;
+            previous2 = previous;
+            previous = current;
+            current = tmp;
+        }
+        return previous[bLength];
+    }
+
+    private static void sortPairs(long[] hashes, int[] words, int size) {
+        // сортировка по хэшу с сохранением порядка слов (LSD radix по 16 бит)
+        long[] hashBuffer = new long[size];
+        int[] wordBuffer = new int[size];
+        int[] counts = new int[1 << 16];
+        for (int shift = 0; shift < 64; shift += 16) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (hashes[i] >>> shift) & 0xFFFF]++;
+            }
+            int total = 0;
+            for (int b = 0; b < counts.length; b++) {
+                int c = counts[b];
+                counts[b] = total;
+                total += c;
+            }
+            for (int i = 0; i < size; i++) {
+                int position = counts[(int) (hashes[i] >>> shift) & 0xFFFF]++;
+                hashBuffer[position] = hashes[i];
+                wordBuffer[position] = words[i];
+            }
+            System.arraycopy(hashBuffer, 0, hashes, 0, size);
+            System.arraycopy(wordBuffer, 0, words, 0, size);
+        }
+    }
+
+    // top-N по (расстояние, -частота) без сортировки всех кандидатов
+    private static final class Candidates {
+        private final int[] ordinals;
+        private final int[] distances;
+        private final int[] frequencies;
+        private int size;
+
+        Candidates(int limit) {
+            ordinals = new int[limit];
+            distances = new int[limit];
+            frequencies = new int[limit];
+        }
+
+        void offer(int ordinal, int distance, int frequency) {
+            int position = size;
+            while (position > 0 && better(distance, frequency, distances[position - 1], frequencies[position - 1])) {
+                position--;
+            }
+            if (position >= ordinals.length) {
+                return;
+            }
+            int last = Math.min(size, ordinals.length - 1);
+            for (int i = last; i > position; i--) {
+                ordinals[i] = ordinals[i - 1];
+                distances[i] = distances[i - 1];
+                frequencies[i] = frequencies[i - 1];
+            }
+            ordinals[position] = ordinal;
+            distances[position] = distance;
+            frequencies[position] = frequency;
+            size = Math.min(size + 1, ordinals.length);
+        }
+
+        private static boolean better(int distance, int frequency, int otherDistance, int otherFrequency) {
+            return distance < otherDistance || (distance == otherDistance && frequency > otherFrequency);
+        }
+
+        List<String> toWords(char[] pool, int[] wordStart) {
+            List<String> words = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int start = wordStart[ordinals[i]];
+                words.add(new String(pool, start, wordStart[ordinals[i] + 1] - start));
+            }
+            return words;
+        }
+    }
+
+    private static final class IntSet {
+        private int[] slots = new int[64];
+        private int size;
+
+        // номера слов хранятся со сдвигом +1, 0 — пустой слот
+        boolean add(int value) {
+            if (size * 2 >= slots.length) {
+                grow();
+            }
+            int stored = value + 1;
+            int slot = (stored * 0x9E3779B9) >>> 1 & (slots.length - 1);
+            while (slots[slot] != 0) {
+                if (slots[slot] == stored) {
+                    return false;
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = stored;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            size = 0;
+            for (int stored : old) {
+                if (stored != 0) {
+                    add(stored - 1);
+                }
+            }
+        }
+    }
+}
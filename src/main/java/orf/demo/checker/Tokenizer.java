@@ -0,0 +1,248 @@
+package orf.demo.checker;
+
+/**
+ * Курсор по токенам текста в char[]: токен — смещение и длина в исходном массиве, строки не создаются.
+ * Смещения — в UTF-16 единицах, как у String и JavaScript.
+ * <ul>
+ *   <li>WORD — буквы любого алфавита (включая кириллицу) с дефисами и апострофами между буквами,
+ *   диакритика и невидимые символы (мягкий перенос) внутри слова допускаются;</li>
+ *   <li>NUMBER — токен с цифрами: 42, 3.14, 1,000, mp3, 2-й;</li>
+ *   <li>URL — http(s)://, ftp://, www. и адреса e-mail, до пробела без завершающей пунктуации.</li>
+ * </ul>
+ * Всё остальное (пробелы, пунктуация, символы) разделяет токены и пропускается.
+ */
+public final class Tokenizer {
+
+    public enum Type {
+        WORD, NUMBER, URL
+    }
+
+    private static final String[] URL_PREFIXES = {"http://", "https://", "ftp://", "www."};
+
+    private final char[] text;
+    private final int end;
+    private int position;
+    private int start;
+    private int length;
+    private Type type;
+    private boolean hasMarks;
+
+    public Tokenizer(char[] text) {
+        this(text, 0, text.length);
+    }
+
+    public Tokenizer(char[] text, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > text.length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset=" + offset + ", length=" + length);
+        }
+        this.text = text;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * Переходит к следующему токену; false, если текст закончился.
+     */
+    public boolean next() {
+        while (position < end) {
+            char c = text[position];
+            if (c < 0x80) {
+                if (isAsciiLetterOrDigit(c)) {
+                    break;
+                }
+                position++;
+                continue;
+            }
+            int cp = codePointAt(position);
+            if (isTokenPart(cp)) {
+                break;
+            }
+            position += Character.charCount(cp);
+        }
+        if (position >= end) {
+            return false;
+        }
+        start = position;
+        hasMarks = false;
+        if (startsWithUrlPrefix(position)) {
+            scanUrl();
+        } else {
+            scanWord();
+            // e-mail ищется, только если слово оборвалось на символе, допустимом в адресе
+            if (position < end && isEmailPunctuation(text[position]) && startsEmail(start)) {
+                position = start;
+                scanUrl();
+            }
+        }
+        length = position - start;
+        return true;
+    }
+
+    public char[] text() {
+        return text;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Слово содержит диакритику или невидимые символы, которые нужно убрать перед поиском в словаре.
+     */
+    public boolean hasMarks() {
+        return hasMarks;
+    }
+
+    /**
+     * Копирует текущее слово без диакритики и невидимых символов; возвращает длину
+     * или -(нужная длина) - 1, если буфер мал.
+     */
+    public int copyWithoutMarks(char[] buffer) {
+        int copied = 0;
+        for (int i = start, tokenEnd = start + length; i < tokenEnd; ) {
+            int cp = codePointAt(i);
+            int count = Character.charCount(cp);
+            if (!isMark(cp)) {
+                if (copied + count <= buffer.length) {
+                    System.arraycopy(text, i, buffer, copied, count);
+                }
+                copied += count;
+            }
+            i += count;
+        }
+        return copied <= buffer.length ? copied : -copied - 1;
+    }
+
+    private void scanWord() {
+        boolean digits = false;
+        int previous = -1;
+        while (position < end) {
+            char c = text[position];
+            if (c < 0x80) {
+                if (isAsciiLetterOrDigit(c)) {
+                    digits |= c <= '9';
+                    previous = c;
+                    position++;
+                    continue;
+                }
+                if (c != '-' && c != '\'' && c != '.' && c != ',') {
+                    break;
+                }
+            }
+            int cp = codePointAt(position);
+            if (Character.isLetter(cp) || Character.isDigit(cp)) {
+                digits |= Character.isDigit(cp);
+                previous = cp;
+                position += Character.charCount(cp);
+            } else if (isMark(cp) && previous >= 0) {
+                hasMarks = true;
+                position += Character.charCount(cp);
+            } else if (joins(cp, previous, position + Character.charCount(cp))) {
+                previous = cp;
+                position += Character.charCount(cp);
+            } else {
+                break;
+            }
+        }
+        type = digits ? Type.NUMBER : Type.WORD;
+    }
+
+    // дефис и апостроф соединяют буквы или цифры, точка и запятая — только цифры
+    private boolean joins(int cp, int previous, int nextPosition) {
+        if (previous < 0 || nextPosition >= end) {
+            return false;
+        }
+        int next = codePointAt(nextPosition);
+        switch (cp) {
+            case '-', '\u2010', '\u2011', '\'', '\u2019', '\u02BC':
+                return Character.isLetterOrDigit(previous) && Character.isLetterOrDigit(next);
+            case '.', ',':
+                return Character.isDigit(previous) && Character.isDigit(next);
+            default:
+                return false;
+        }
+    }
+
+    private void scanUrl() {
+        while (position < end && !endsUrl(text[position])) {
+            position++;
+        }
+        while (position > start + 1 && isTrailingPunctuation(text[position - 1])) {
+            position--;
+        }
+        type = Type.URL;
+    }
+
+    private boolean startsWithUrlPrefix(int at) {
+        char first = (char) (text[at] | 0x20);
+        if (first != 'h' && first != 'f' && first != 'w') {
+            return false;
+        }
+        for (String prefix : URL_PREFIXES) {
+            if (regionMatchesIgnoreCase(at, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // адрес e-mail: '@' между буквами или цифрами в пределах одного слитного фрагмента текста
+    private boolean startsEmail(int at) {
+        for (int i = at + 1; i < end - 1 && !endsUrl(text[i]); i++) {
+            if (text[i] == '@') {
+                return Character.isLetterOrDigit(text[i - 1]) && Character.isLetterOrDigit(text[i + 1]);
+            }
+        }
+        return false;
+    }
+
+    private boolean regionMatchesIgnoreCase(int at, String prefix) {
+        if (end - at < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(text[at + i]) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int codePointAt(int at) {
+        return Character.codePointAt(text, at, end);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isEmailPunctuation(char c) {
+        return c == '@' || c == '.' || c == '_' || c == '+' || c == '-';
+    }
+
+    private static boolean isTokenPart(int cp) {
+        return Character.isLetter(cp) || Character.isDigit(cp);
+    }
+
+    private static boolean isMark(int cp) {
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK || type == Character.FORMAT;
+    }
+
+    private static boolean endsUrl(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '<' || c == '>' || c == '"';
+    }
+
+    private static boolean isTrailingPunctuation(char c) {
+        return ".,;:!?)]}'\u00BB\u201D".indexOf(c) >= 0;
+    }
+}
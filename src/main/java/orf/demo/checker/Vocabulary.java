@@ -0,0 +1,44 @@
+package orf.demo.checker;
+
+import java.time.Instant;
+
+/**
+ * Одна версия словаря: DAWG и построенный по нему индекс подсказок. Неизменяема;
+ * перезагрузка создаёт новую версию и публикует её через {@link VocabularyHolder}.
+ */
+public final class Vocabulary {
+
+    private final long version;
+    private final String source;
+    private final DawgDictionary dictionary;
+    private final SymSpellSuggester suggester;
+    private final Instant loadedAt;
+
+    public Vocabulary(long version, String source, DawgDictionary dictionary, SymSpellSuggester suggester) {
+        this.version = version;
+        this.source = source;
+        this.dictionary = dictionary;
+        this.suggester = suggester;
+        this.loadedAt = Instant.now();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public DawgDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public SymSpellSuggester getSuggester() {
+        return suggester;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
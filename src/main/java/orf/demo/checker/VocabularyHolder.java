@@ -0,0 +1,32 @@
+package orf.demo.checker;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Текущая версия словаря. Читатели берут ссылку одним volatile-чтением без блокировок,
+ * новая версия публикуется одной заменой ссылки; старая остаётся у тех, кто успел её взять,
+ * и освобождается сборщиком мусора после них.
+ */
+public final class VocabularyHolder {
+
+    private final AtomicReference<Vocabulary> current;
+
+    public VocabularyHolder(Vocabulary initial) {
+        this.current = new AtomicReference<>(initial);
+    }
+
+    public static VocabularyHolder of(DawgDictionary dictionary, SymSpellSuggester suggester) {
+        return new VocabularyHolder(new Vocabulary(1, "memory", dictionary, suggester));
+    }
+
+    public Vocabulary get() {
+        return current.get();
+    }
+
+    /**
+     * Делает next текущей версией и возвращает предыдущую.
+     */
+    public Vocabulary publish(Vocabulary next) {
+        return current.getAndSet(next);
+    }
+}
@@ -0,0 +1,118 @@
+package orf.demo.checker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Отсортированный список уникальных нормализованных слов с частотами.
+ * Используется только при построении словаря и после этого не хранится.
+ */
+public final class WordList {
+
+    private final String[] words;
+    private final int[] frequencies;
+
+    private WordList(String[] words, int[] frequencies) {
+        this.words = words;
+        this.frequencies = frequencies;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public String word(int index) {
+        return words[index];
+    }
+
+    public int frequency(int index) {
+        return frequencies[index];
+    }
+
+    public static WordList of(Collection<String> words) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String word : words) {
+            add(counts, word, 1);
+        }
+        return fromMap(counts);
+    }
+
+    /**
+     * Формат: одно слово в строке, опционально через пробел или таб — частота.
+     * Пустые строки и строки, начинающиеся с '#', пропускаются.
+     */
+    public static WordList read(InputStream in) throws IOException {
+        Map<String, Integer> counts = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                int separator = indexOfWhitespace(line);
+                if (separator < 0) {
+                    add(counts, line, 1);
+                } else {
+                    String frequency = line.substring(separator).trim();
+                    add(counts, line.substring(0, separator), parseFrequency(frequency, line));
+                }
+            }
+        }
+        return fromMap(counts);
+    }
+
+    public static String normalize(CharSequence word) {
+        char[] chars = new char[word.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = normalize(word.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    public static char normalize(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static void add(Map<String, Integer> counts, String word, int frequency) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+        counts.merge(normalize(word), frequency, (a, b) -> (int) Math.min(Integer.MAX_VALUE, (long) a + b));
+    }
+
+    private static WordList fromMap(Map<String, Integer> counts) {
+        List<String> words = new ArrayList<>(counts.keySet());
+        int[] frequencies = new int[words.size()];
+        int i = 0;
+        for (Integer frequency : counts.values()) {
+            frequencies[i++] = frequency;
+        }
+        return new WordList(words.toArray(new String[0]), frequencies);
+    }
+
+    private static int indexOfWhitespace(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int parseFrequency(String value, String line) {
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректная частота в строке словаря: " + line, e);
+        }
+    }
+}
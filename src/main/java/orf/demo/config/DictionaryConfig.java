@@ -0,0 +1,32 @@
+package orf.demo.config;
+
+import orf.demo.checker.VocabularyHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class DictionaryConfig {
+
+    @Bean
+    public DictionaryLoader dictionaryLoader(
+            @Value("${spellchecker.dictionary.location:classpath:dictionary/words.txt}") Resource location,
+            @Value("${spellchecker.dictionary.snapshot:}") String snapshot,
+            @Value("${spellchecker.suggestions.max-distance:2}") int maxDistance,
+            @Value("${spellchecker.suggestions.prefix-length:7}") int prefixLength) {
+        return new DictionaryLoader(location, snapshot.isBlank() ? null : Path.of(snapshot), maxDistance,
+                prefixLength);
+    }
+
+    /**
+     * Текущая версия словаря и индекса подсказок; перезагрузку выполняет InterfaceDictionaryService.
+     */
+    @Bean
+    public VocabularyHolder vocabularyHolder(DictionaryLoader loader) throws IOException {
+        return new VocabularyHolder(loader.load(1));
+    }
+}
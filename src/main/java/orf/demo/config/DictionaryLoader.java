@@ -0,0 +1,95 @@
+package orf.demo.config;
+
+import orf.demo.checker.DawgDictionary;
+import orf.demo.checker.SymSpellSuggester;
+import orf.demo.checker.Vocabulary;
+import orf.demo.checker.WordList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Загрузка версии словаря: при старте и при каждой перезагрузке.
+ * С заданным снимком словарь открывается из него через mmap, если снимок записан для той же
+ * версии списка слов; иначе словарь собирается из списка, снимок перезаписывается и дальше используется он.
+ */
+public class DictionaryLoader {
+    private static final Logger logger = LoggerFactory.getLogger(DictionaryLoader.class);
+
+    private final Resource location;
+    private final Path snapshot;
+    private final int maxDistance;
+    private final int prefixLength;
+
+    public DictionaryLoader(Resource location, Path snapshot, int maxDistance, int prefixLength) {
+        this.location = location;
+        this.snapshot = snapshot;
+        this.maxDistance = maxDistance;
+        this.prefixLength = prefixLength;
+    }
+
+    public Resource getLocation() {
+        return location;
+    }
+
+    public Vocabulary load(long version) throws IOException {
+        DawgDictionary dictionary = loadDictionary();
+        long start = System.nanoTime();
+        SymSpellSuggester suggester = SymSpellSuggester.build(dictionary, maxDistance, prefixLength);
+        logger.info("Индекс подсказок построен за {} мс", (System.nanoTime() - start) / 1_000_000);
+        return new Vocabulary(version, location.getDescription(), dictionary, suggester);
+    }
+
+    private DawgDictionary loadDictionary() throws IOException {
+        long start = System.nanoTime();
+        long stamp = sourceStamp(location);
+        if (snapshot != null && Files.isRegularFile(snapshot)) {
+            try {
+                DawgDictionary mapped = DawgDictionary.map(snapshot);
+                if (mapped.getSourceStamp() == stamp) {
+                    log("Снимок словаря " + snapshot + " отображён", mapped, start);
+                    return mapped;
+                }
+                logger.info("Снимок словаря {} устарел относительно {}, пересборка", snapshot,
+                        location.getDescription());
+            } catch (IOException e) {
+                logger.warn("Снимок словаря {} не читается ({}), пересборка", snapshot, e.getMessage());
+            }
+        }
+        WordList words;
+        try (InputStream in = location.getInputStream()) {
+            words = WordList.read(in);
+        }
+        DawgDictionary dictionary = DawgDictionary.build(words);
+        if (snapshot != null) {
+            try {
+                dictionary.writeSnapshot(snapshot, stamp);
+                dictionary = DawgDictionary.map(snapshot);
+            } catch (IOException e) {
+                logger.warn("Снимок словаря {} не записан: {}", snapshot, e.getMessage());
+            }
+        }
+        log("Словарь " + location.getDescription() + " загружен", dictionary, start);
+        return dictionary;
+    }
+
+    private static void log(String source, DawgDictionary dictionary, long start) {
+        logger.info("{}: {} слов, {} узлов, {} рёбер, ~{} KB за {} мс", source,
+                dictionary.size(), dictionary.nodeCount(), dictionary.edgeCount(),
+                dictionary.estimatedSizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // версия списка слов для снимка; 0, если ресурс не сообщает дату и размер — тогда снимок не проверяется
+    private static long sourceStamp(Resource location) {
+        try {
+            return 31 * location.lastModified() + location.contentLength();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package orf.demo.config;
+
+import orf.demo.metrics.EndpointMetricsInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsWebConfig implements WebMvcConfigurer {
+
+    private final EndpointMetricsInterceptor endpointMetricsInterceptor;
+
+    public MetricsWebConfig(EndpointMetricsInterceptor endpointMetricsInterceptor) {
+        this.endpointMetricsInterceptor = endpointMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointMetricsInterceptor).excludePathPatterns("/metrics");
+    }
+}
@@ -0,0 +1,40 @@
+package orf.demo.config;
+
+import orf.demo.checker.CachingSpellChecker;
+import orf.demo.checker.SpellChecker;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Оборачивает перечисленные в spellchecker.word-cache.beans бины SpellChecker
+ * в CachingSpellChecker. Пустой список — кэш выключен.
+ */
+@Configuration
+public class SpellCheckerCacheConfig {
+
+    @Bean
+    public static BeanPostProcessor cachingSpellCheckerPostProcessor(Environment environment) {
+        Set<String> beans = Arrays.stream(environment.getProperty("spellchecker.word-cache.beans", String[].class,
+                        new String[0]))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        int capacity = environment.getProperty("spellchecker.word-cache.capacity", Integer.class, 65536);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SpellChecker checker && !(bean instanceof CachingSpellChecker)
+                        && beans.contains(beanName)) {
+                    return new CachingSpellChecker(beanName, checker, capacity);
+                }
+                return bean;
+            }
+        };
+    }
+}
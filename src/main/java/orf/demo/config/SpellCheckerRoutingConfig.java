@@ -0,0 +1,59 @@
+package orf.demo.config;
+
+import orf.demo.checker.ChainSpellChecker;
+import orf.demo.checker.SpellChecker;
+import orf.demo.checker.SpellCheckerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Собирает SpellCheckerRegistry из spellchecker.routing.*: значение — имя бина SpellChecker
+ * или список имён через запятую, который становится цепочкой ChainSpellChecker.
+ */
+@Configuration
+public class SpellCheckerRoutingConfig {
+    private static final Logger logger = LoggerFactory.getLogger(SpellCheckerRoutingConfig.class);
+
+    @Bean
+    public SpellCheckerRegistry spellCheckerRegistry(Environment environment, Map<String, SpellChecker> checkers) {
+        Binder binder = Binder.get(environment);
+        Bindable<Map<String, String>> routes = Bindable.mapOf(String.class, String.class);
+        SpellChecker defaultChecker = resolve("default",
+                environment.getProperty("spellchecker.routing.default", "simpleSpellChecker"), checkers);
+        Map<String, SpellChecker> byLanguage = new LinkedHashMap<>();
+        binder.bind("spellchecker.routing.languages", routes).orElse(Map.of())
+                .forEach((language, names) -> byLanguage.put(language.toLowerCase(), resolve(language, names, checkers)));
+        Map<String, SpellChecker> byCategory = new LinkedHashMap<>();
+        binder.bind("spellchecker.routing.categories", routes).orElse(Map.of())
+                .forEach((category, names) -> byCategory.put(category, resolve(category, names, checkers)));
+        SpellCheckerRegistry registry = new SpellCheckerRegistry(defaultChecker, byLanguage, byCategory);
+        logger.info("Маршруты проверки: {}", registry.describe());
+        return registry;
+    }
+
+    private static SpellChecker resolve(String route, String names, Map<String, SpellChecker> checkers) {
+        List<SpellChecker> stages = Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> {
+                    SpellChecker checker = checkers.get(name);
+                    if (checker == null) {
+                        throw new IllegalStateException("Unknown SpellChecker bean '" + name + "' in route " + route
+                                + ", available: " + checkers.keySet());
+                    }
+                    return checker;
+                })
+                .toList();
+        return stages.size() == 1 ? stages.get(0) : new ChainSpellChecker(route, stages);
+    }
+}
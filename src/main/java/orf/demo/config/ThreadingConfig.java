@@ -0,0 +1,47 @@
+package orf.demo.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Потоки для внутренних пулов с блокирующими вызовами (JDBC). При spring.threads.virtual.enabled=true
+ * на Java 21+ это виртуальные потоки — тот же режим, что Spring Boot включает для Tomcat.
+ * Размеры пулов при этом не меняются: они ограничивают параллельность, а не число потоков ОС.
+ * CPU-bound BulkSpellCheckEngine остаётся на ForkJoinPool из платформенных потоков.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    public ThreadFactory spellCheckJobThreadFactory(Environment environment) {
+        return threadFactory(environment, "spell-check-job-");
+    }
+
+    @Bean
+    public ThreadFactory spellCheckWriterThreadFactory(Environment environment) {
+        return threadFactory(environment, "spell-check-writer-");
+    }
+
+    @Bean
+    public ThreadFactory spellCheckEventsThreadFactory(Environment environment) {
+        return threadFactory(environment, "spell-check-events-");
+    }
+
+    private static ThreadFactory threadFactory(Environment environment, String prefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package orf.demo.controller;
+
+import orf.demo.cache.SpellCheckCache;
+import orf.demo.checker.CachingSpellChecker;
+import orf.demo.service.CacheService;
+import orf.demo.service.Interface.InterfaceSpellCheckService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final SpellCheckCache spellCheckCache;
+    private final CacheService cacheService;
+    private final ObjectProvider<CachingSpellChecker> cachingSpellCheckers;
+    private final InterfaceSpellCheckService interfaceSpellCheckService;
+
+    public CacheController(SpellCheckCache spellCheckCache, CacheService cacheService,
+                           ObjectProvider<CachingSpellChecker> cachingSpellCheckers,
+                           InterfaceSpellCheckService interfaceSpellCheckService) {
+        this.spellCheckCache = spellCheckCache;
+        this.cacheService = cacheService;
+        this.cachingSpellCheckers = cachingSpellCheckers;
+        this.interfaceSpellCheckService = interfaceSpellCheckService;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("spellChecksByCategory", spellCheckCache.getStats());
+        stats.put("regions", cacheService.getStats());
+        Map<String, Object> wordCaches = new LinkedHashMap<>();
+        cachingSpellCheckers.orderedStream().forEach(checker -> wordCaches.put(checker.getName(), checker.getStats()));
+        stats.put("wordCaches", wordCaches);
+        stats.put("wordLookups", interfaceSpellCheckService.getCoalescingStats());
+        return ResponseEntity.ok(stats);
+    }
+}
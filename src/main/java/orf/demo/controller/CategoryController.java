@@ -1,11 +1,16 @@
 package orf.demo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import orf.demo.dto.CategoryView;
+import orf.demo.dto.KeysetPage;
 import orf.demo.model.Category;
 import orf.demo.service.Interface.InterfaceCategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,24 +25,38 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<List<CategoryView>> getAllCategories() {
         return ResponseEntity.ok(interfaceCategoryService.getAllCategories());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<CategoryView>> getCategoriesPage(@RequestParam(required = false) Long after,
+                                                                      @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(interfaceCategoryService.getCategoriesPage(after, limit));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportCategories(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        interfaceCategoryService.exportCategories(response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<CategoryView> getCategoryById(@PathVariable Long id) {
         return ResponseEntity.ok(interfaceCategoryService.getCategoryById(id)
+                .map(CategoryView::from)
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + id)));
     }
 
     @PostMapping
-    public ResponseEntity<Category> createCategory(@RequestBody Category category) {
-        return ResponseEntity.ok(interfaceCategoryService.createCategory(category.getName()));
+    public ResponseEntity<CategoryView> createCategory(@RequestBody Category category) {
+        return ResponseEntity.ok(CategoryView.from(interfaceCategoryService.createCategory(category.getName())));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Category> updateCategory(@PathVariable Long id, @RequestBody Category category) {
-        return ResponseEntity.ok(interfaceCategoryService.updateCategory(id, category));
+    public ResponseEntity<CategoryView> updateCategory(@PathVariable Long id, @RequestBody Category category) {
+        return ResponseEntity.ok(CategoryView.from(interfaceCategoryService.updateCategory(id, category)));
     }
 
     @DeleteMapping("/{id}")
@@ -1,6 +1,6 @@
 package orf.demo.controller;
 
-import orf.demo.model.SpellCheckCategory;
+import orf.demo.dto.SpellCheckCategoryView;
 import orf.demo.service.Interface.InterfaceCategoryStatusService;
 import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
 import orf.demo.model.Category;
@@ -26,7 +26,7 @@ public class CategoryStatusController {
     }
 
     @GetMapping("/{categoryId}/spell-checks")
-    public ResponseEntity<List<SpellCheckCategory>> getSpellChecksByCategoryId(@PathVariable Long categoryId) {
+    public ResponseEntity<List<SpellCheckCategoryView>> getSpellChecksByCategoryId(@PathVariable Long categoryId) {
         return ResponseEntity.ok(interfaceSpellCheckCategoryService.getSpellChecksByCategory(String.valueOf(categoryId)));
     }
 
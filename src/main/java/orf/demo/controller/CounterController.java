@@ -1,19 +1,20 @@
 package orf.demo.controller;
 
+import orf.demo.metrics.ServiceMetrics;
+import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
-import orf.demo.service.ServiceRequestCounterAspect;
 
 @RestController
 public class CounterController {
-    private final ServiceRequestCounterAspect counterAspect;
+    private final ServiceMetrics serviceMetrics;
 
-    public CounterController(ServiceRequestCounterAspect counterAspect) {
-        this.counterAspect = counterAspect;
+    public CounterController(ServiceMetrics serviceMetrics) {
+        this.serviceMetrics = serviceMetrics;
     }
 
     @GetMapping("/api/counter")
     public long getRequestCounter() {
-        return counterAspect.getCounter();
+        return serviceMetrics.getCalls(InterfaceSpellCheckCategoryService.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package orf.demo.controller;
+
+import orf.demo.service.Interface.InterfaceDictionaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/dictionary")
+public class DictionaryController {
+
+    private final InterfaceDictionaryService interfaceDictionaryService;
+
+    @Autowired
+    public DictionaryController(InterfaceDictionaryService interfaceDictionaryService) {
+        this.interfaceDictionaryService = interfaceDictionaryService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(interfaceDictionaryService.getStatus());
+    }
+
+    /**
+     * Запускает перезагрузку в фоне и сразу отвечает 202; номер новой версии виден в GET /api/dictionary.
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Object>> reload() {
+        interfaceDictionaryService.reload();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(interfaceDictionaryService.getStatus());
+    }
+}
@@ -0,0 +1,24 @@
+package orf.demo.controller;
+
+import orf.demo.metrics.EndpointMetrics;
+import orf.demo.metrics.PrometheusFormatter;
+import orf.demo.metrics.ServiceMetrics;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MetricsController {
+
+    private final ServiceMetrics serviceMetrics;
+    private final EndpointMetrics endpointMetrics;
+
+    public MetricsController(ServiceMetrics serviceMetrics, EndpointMetrics endpointMetrics) {
+        this.serviceMetrics = serviceMetrics;
+        this.endpointMetrics = endpointMetrics;
+    }
+
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String getMetrics() {
+        return PrometheusFormatter.format(serviceMetrics.getAll(), endpointMetrics.getAll());
+    }
+}
@@ -1,42 +1,101 @@
 package orf.demo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import orf.demo.dto.BulkSpellCheckRequest;
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.MisspellingCount;
+import orf.demo.dto.SpellCheckCategoryView;
 import orf.demo.model.SpellCheckCategory;
+import orf.demo.repository.WriteBehindPersister;
 import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/spell-check-categories")
 public class SpellCheckCategoryController {
 
     private final InterfaceSpellCheckCategoryService interfaceSpellCheckCategoryService;
+    private final WriteBehindPersister writeBehindPersister;
 
     @Autowired
-    public SpellCheckCategoryController(InterfaceSpellCheckCategoryService interfaceSpellCheckCategoryService) {
+    public SpellCheckCategoryController(InterfaceSpellCheckCategoryService interfaceSpellCheckCategoryService,
+                                        WriteBehindPersister writeBehindPersister) {
         this.interfaceSpellCheckCategoryService = interfaceSpellCheckCategoryService;
+        this.writeBehindPersister = writeBehindPersister;
     }
 
     @GetMapping
-    public List<SpellCheckCategory> getAllSpellCheckCategories() {
-        return interfaceSpellCheckCategoryService.getAllSpellChecks();
+    public List<SpellCheckCategoryView> getAllSpellCheckCategories() {
+        return interfaceSpellCheckCategoryService.getAllSpellChecks().stream()
+                .map(SpellCheckCategoryView::from)
+                .toList();
     }
 
+    @GetMapping("/page")
+    public KeysetPage<SpellCheckCategoryView> getSpellCheckCategoriesPage(@RequestParam(required = false) Long after,
+                                                                          @RequestParam(defaultValue = "100") int limit) {
+        return interfaceSpellCheckCategoryService.getSpellChecksPage(after, limit);
+    }
+
+    /**
+     * Проверки категории, в которых встретилось слово; ищется по таблице ошибок, без учёта регистра.
+     */
+    @GetMapping("/search")
+    public List<SpellCheckCategoryView> findByMisspelledWord(@RequestParam String word,
+                                                             @RequestParam String category) {
+        return interfaceSpellCheckCategoryService.findByErrorAndCategoryName(word, category).stream()
+                .map(SpellCheckCategoryView::from)
+                .toList();
+    }
+
+    @GetMapping("/misspellings/top")
+    public List<MisspellingCount> getTopMisspellings(@RequestParam(required = false) String category,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return interfaceSpellCheckCategoryService.getTopMisspellings(category, limit);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportSpellCheckCategories(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        interfaceSpellCheckCategoryService.exportSpellChecks(response.getOutputStream());
+    }
+
+    /**
+     * 200 с сохранённой проверкой; 202 без id, если включена отложенная запись и строка ещё в очереди.
+     */
     @PostMapping
-    public SpellCheckCategory createSpellCheckCategory(@RequestBody BulkSpellCheckRequest request) {
-        interfaceSpellCheckCategoryService.saveSpellCheckCategory(request);
-        return interfaceSpellCheckCategoryService.getSpellChecksByCategory("default").stream()
-                .filter(sc -> sc.getName().equals("SpellCheck_" + System.currentTimeMillis()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Failed to retrieve created SpellCheckCategory"));
+    public ResponseEntity<SpellCheckCategoryView> createSpellCheckCategory(@RequestBody BulkSpellCheckRequest request) {
+        SpellCheckCategoryView view = interfaceSpellCheckCategoryService.saveSpellCheckCategory(request);
+        return view.getId() == null ? ResponseEntity.status(HttpStatus.ACCEPTED).body(view) : ResponseEntity.ok(view);
+    }
+
+    @GetMapping("/write-behind/stats")
+    public Map<String, Object> getWriteBehindStats() {
+        return writeBehindPersister.getStats();
+    }
+
+    @PostMapping("/batch")
+    public int createSpellCheckCategories(@RequestBody List<SpellCheckCategory> spellChecks) {
+        return interfaceSpellCheckCategoryService.saveSpellChecks(spellChecks);
+    }
+
+    @PostMapping("/batch/results")
+    public int createSpellCheckResults(@RequestBody BulkSpellCheckRequest request) {
+        return interfaceSpellCheckCategoryService.saveSpellCheckResults(request);
     }
 
     @PutMapping("/{id}")
-    public SpellCheckCategory updateSpellCheckCategory(@PathVariable Long id, @RequestBody SpellCheckCategory spellCheck) {
-        return interfaceSpellCheckCategoryService.updateSpellCheck(id, spellCheck);
+    public SpellCheckCategoryView updateSpellCheckCategory(@PathVariable Long id, @RequestBody SpellCheckCategory spellCheck) {
+        return SpellCheckCategoryView.from(interfaceSpellCheckCategoryService.updateSpellCheck(id, spellCheck));
     }
 
     @DeleteMapping("/{id}")
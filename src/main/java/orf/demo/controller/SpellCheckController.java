@@ -1,13 +1,20 @@
 package orf.demo.controller;
 
 import orf.demo.dto.BulkSpellCheckRequest;
+import orf.demo.dto.DocumentCheckResponse;
+import orf.demo.dto.MisspellingCount;
 import orf.demo.dto.SpellCheckResponse;
 import orf.demo.service.Interface.InterfaceSpellCheckService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/spell-check")
@@ -21,23 +28,86 @@ public class SpellCheckController {
     }
 
     @GetMapping("/{word}")
-    public ResponseEntity<SpellCheckResponse> checkSpelling(@PathVariable String word) {
-        String result = interfaceSpellCheckService.checkSpelling(word);
-        return ResponseEntity.ok(new SpellCheckResponse(word, "Correct".equals(result)));
+    public ResponseEntity<SpellCheckResponse> checkSpelling(@PathVariable String word,
+                                                            @RequestParam(defaultValue = "0") int suggestions,
+                                                            @RequestParam(required = false) String lang,
+                                                            @RequestParam(required = false) String category) {
+        boolean correct = "Correct".equals(interfaceSpellCheckService.checkSpelling(word, lang, category));
+        if (correct || suggestions <= 0) {
+            return ResponseEntity.ok(new SpellCheckResponse(word, correct));
+        }
+        return ResponseEntity.ok(new SpellCheckResponse(word, false,
+                interfaceSpellCheckService.suggest(word, suggestions)));
+    }
+
+    @GetMapping("/{word}/suggestions")
+    public ResponseEntity<List<String>> getSuggestions(@PathVariable String word,
+                                                       @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(interfaceSpellCheckService.suggest(word, limit));
     }
 
     @PostMapping("/bulk")
-    public ResponseEntity<List<SpellCheckResponse>> checkSpellingBulk(@RequestBody BulkSpellCheckRequest request) {
-        List<SpellCheckResponse> results = interfaceSpellCheckService.checkSpellingBulk(request.getTexts());
+    public ResponseEntity<List<SpellCheckResponse>> checkSpellingBulk(@RequestBody BulkSpellCheckRequest request,
+                                                                      @RequestParam(defaultValue = "0") int suggestions,
+                                                                      @RequestParam(required = false) String lang,
+                                                                      @RequestParam(required = false) String category) {
+        List<SpellCheckResponse> results = interfaceSpellCheckService.checkSpellingBulk(request.getTexts(), suggestions,
+                lang, category);
         return ResponseEntity.ok(results);
     }
 
     @PostMapping("/bulk-params")
-    public ResponseEntity<List<SpellCheckResponse>> checkSpellingBulkWithParams(@RequestBody BulkSpellCheckRequest request) {
-        List<SpellCheckResponse> results = interfaceSpellCheckService.checkSpellingBulkWithParams(request.getTexts());
+    public ResponseEntity<List<SpellCheckResponse>> checkSpellingBulkWithParams(@RequestBody BulkSpellCheckRequest request,
+                                                                                @RequestParam(defaultValue = "0") int suggestions) {
+        List<SpellCheckResponse> results = interfaceSpellCheckService.checkSpellingBulkWithParams(request.getTexts(),
+                suggestions);
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Проверка целого документа (text/plain): ошибки возвращаются со смещениями в тексте.
+     */
+    @PostMapping(value = "/document", consumes = "text/plain")
+    public ResponseEntity<DocumentCheckResponse> checkDocument(@RequestBody String text,
+                                                               @RequestParam(defaultValue = "0") int suggestions,
+                                                               @RequestParam(required = false) String lang,
+                                                               @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(interfaceSpellCheckService.checkDocument(text, suggestions, lang, category));
+    }
+
+    @PostMapping("/documents")
+    public ResponseEntity<List<DocumentCheckResponse>> checkDocuments(@RequestBody BulkSpellCheckRequest request,
+                                                                      @RequestParam(defaultValue = "0") int suggestions,
+                                                                      @RequestParam(required = false) String lang,
+                                                                      @RequestParam(required = false) String category) {
+        return ResponseEntity.ok(interfaceSpellCheckService.checkDocuments(request.getTexts(), suggestions, lang,
+                category));
+    }
+
+    @PostMapping(value = "/bulk/stream", consumes = {"application/x-ndjson", "text/plain"},
+            produces = "application/x-ndjson")
+    public void checkSpellingStream(InputStream body, HttpServletResponse response,
+                                    @RequestParam(defaultValue = "0") int suggestions) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        interfaceSpellCheckService.checkSpellingStream(body, response.getOutputStream(), suggestions);
+    }
+
+    /**
+     * Самые частые ошибки всего трафика (с category — в этой категории) по состоянию последнего слияния,
+     * обновляется раз в spellchecker.misspellings.refresh-interval. Счёт приблизительный, только с завышением.
+     */
+    @GetMapping("/misspellings/top")
+    public List<MisspellingCount> getTopMisspellings(@RequestParam(required = false) String category,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return interfaceSpellCheckService.getTopMisspellings(category, limit);
+    }
+
+    @GetMapping("/misspellings/stats")
+    public Map<String, Object> getMisspellingStats() {
+        return interfaceSpellCheckService.getMisspellingStats();
+    }
+
     @GetMapping("/request-count")
     public ResponseEntity<Long> getRequestCount() {
         return ResponseEntity.ok(interfaceSpellCheckService.getRequestCount());
@@ -0,0 +1,97 @@
+package orf.demo.controller;
+
+import orf.demo.dto.BulkSpellCheckRequest;
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.SpellCheckJobStatus;
+import orf.demo.dto.SpellCheckResponse;
+import orf.demo.service.Interface.InterfaceSpellCheckJobService;
+import orf.demo.service.SpellCheckJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/spell-check-jobs")
+public class SpellCheckJobController {
+
+    private final InterfaceSpellCheckJobService interfaceSpellCheckJobService;
+    private final Duration eventsTimeout;
+
+    @Autowired
+    public SpellCheckJobController(InterfaceSpellCheckJobService interfaceSpellCheckJobService,
+                                   @Value("${spellchecker.jobs.events-timeout:30m}") Duration eventsTimeout) {
+        this.interfaceSpellCheckJobService = interfaceSpellCheckJobService;
+        this.eventsTimeout = eventsTimeout;
+    }
+
+    @PostMapping
+    public ResponseEntity<SpellCheckJobStatus> submitJob(@RequestBody BulkSpellCheckRequest request,
+                                                         @RequestParam(defaultValue = "0") int suggestions,
+                                                         @RequestParam(defaultValue = "false") boolean save) {
+        SpellCheckJobStatus status = interfaceSpellCheckJobService.submit(request.getTexts(), suggestions, save);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/spell-check-jobs/" + status.getId()))
+                .body(status);
+    }
+
+    @GetMapping("/{id}")
+    public SpellCheckJobStatus getJobStatus(@PathVariable String id) {
+        return interfaceSpellCheckJobService.getStatus(id);
+    }
+
+    /**
+     * Прогресс задачи как Server-Sent Events: событие "status" на готовые порции (если клиент не успевает
+     * читать, промежуточные схлопываются в последнее), поток закрывается после завершения задачи.
+     */
+    @GetMapping(value = "/{id}/events", produces = "text/event-stream")
+    public SseEmitter streamJobEvents(@PathVariable String id) {
+        SpellCheckJob job = interfaceSpellCheckJobService.getJob(id);
+        SseEmitter emitter = new SseEmitter(eventsTimeout.toMillis());
+        Consumer<SpellCheckJobStatus> listener = new Consumer<>() {
+            @Override
+            public void accept(SpellCheckJobStatus status) {
+                try {
+                    emitter.send(SseEmitter.event().name("status").data(status));
+                    if (SpellCheckJob.State.valueOf(status.getState()).isTerminal()) {
+                        emitter.complete();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // клиент отключился: дальше слать некому
+                    job.unsubscribe(this);
+                    emitter.completeWithError(e);
+                }
+            }
+        };
+        emitter.onCompletion(() -> job.unsubscribe(listener));
+        emitter.onTimeout(() -> job.unsubscribe(listener));
+        emitter.onError(e -> job.unsubscribe(listener));
+        job.subscribe(listener);
+        return emitter;
+    }
+
+    @GetMapping("/{id}/results")
+    public KeysetPage<SpellCheckResponse> getJobResults(@PathVariable String id,
+                                                        @RequestParam(defaultValue = "0") int offset,
+                                                        @RequestParam(defaultValue = "100") int limit) {
+        return interfaceSpellCheckJobService.getResults(id, offset, limit);
+    }
+
+    @DeleteMapping("/{id}")
+    public SpellCheckJobStatus cancelJob(@PathVariable String id) {
+        return interfaceSpellCheckJobService.cancel(id);
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Object> getJobStats() {
+        return interfaceSpellCheckJobService.getStats();
+    }
+}
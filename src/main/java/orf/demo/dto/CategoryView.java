@@ -0,0 +1,26 @@
+package orf.demo.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import orf.demo.model.Category;
+
+/**
+ * Плоское представление категории без обратной связи на проверки.
+ */
+@Getter
+@JsonSerialize(using = CategoryViewSerializer.class)
+public class CategoryView {
+    private final Long id;
+    private final String name;
+    private final String status;
+
+    public CategoryView(Long id, String name, String status) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+    }
+
+    public static CategoryView from(Category category) {
+        return new CategoryView(category.getId(), category.getName(), category.getStatus());
+    }
+}
@@ -0,0 +1,49 @@
+package orf.demo.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Пишет CategoryView за один проход без интроспекции бина: имена полей закодированы заранее,
+ * поля со значением null не выводятся.
+ */
+public class CategoryViewSerializer extends StdSerializer<CategoryView> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    public CategoryViewSerializer() {
+        super(CategoryView.class);
+    }
+
+    @Override
+    public void serialize(CategoryView category, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        write(category, generator);
+    }
+
+    static void write(CategoryView category, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (category.getId() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(category.getId());
+        }
+        writeString(generator, NAME, category.getName());
+        writeString(generator, STATUS, category.getStatus());
+        generator.writeEndObject();
+    }
+
+    static void writeString(JsonGenerator generator, SerializedString field, String value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(field);
+            generator.writeString(value);
+        }
+    }
+}
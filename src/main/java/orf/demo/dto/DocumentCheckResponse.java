@@ -0,0 +1,16 @@
+package orf.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class DocumentCheckResponse {
+    private final int words;
+    private final List<SpellingError> errors;
+
+    public DocumentCheckResponse(int words, List<SpellingError> errors) {
+        this.words = words;
+        this.errors = errors;
+    }
+}
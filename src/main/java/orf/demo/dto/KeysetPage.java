@@ -0,0 +1,20 @@
+package orf.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Страница keyset-пагинации по id: следующая страница запрашивается с after=nextCursor,
+ * nextCursor равен null на последней странице.
+ */
+@Getter
+public class KeysetPage<T> {
+    private final List<T> items;
+    private final Long nextCursor;
+
+    public KeysetPage(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
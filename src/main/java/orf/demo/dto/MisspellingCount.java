@@ -0,0 +1,14 @@
+package orf.demo.dto;
+
+import lombok.Getter;
+
+@Getter
+public class MisspellingCount {
+    private final String word;
+    private final long count;
+
+    public MisspellingCount(String word, long count) {
+        this.word = word;
+        this.count = count;
+    }
+}
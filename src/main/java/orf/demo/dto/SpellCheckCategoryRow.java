@@ -0,0 +1,29 @@
+package orf.demo.dto;
+
+import lombok.Getter;
+
+/**
+ * Одна строка соединения spell_checks с категориями: проверка повторяется для каждой своей
+ * категории, поля категории равны null, если категорий нет. Строки одной проверки идут подряд.
+ */
+@Getter
+public class SpellCheckCategoryRow {
+    private final Long id;
+    private final String name;
+    private final String status;
+    private final String error;
+    private final Long categoryId;
+    private final String categoryName;
+    private final String categoryStatus;
+
+    public SpellCheckCategoryRow(Long id, String name, String status, String error,
+                                 Long categoryId, String categoryName, String categoryStatus) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.error = error;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.categoryStatus = categoryStatus;
+    }
+}
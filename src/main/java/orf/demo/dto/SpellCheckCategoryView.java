@@ -0,0 +1,41 @@
+package orf.demo.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import orf.demo.model.Category;
+import orf.demo.model.SpellCheckCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Проверка вместе с её категориями в виде плоских CategoryView.
+ */
+@Getter
+@JsonSerialize(using = SpellCheckCategoryViewSerializer.class)
+public class SpellCheckCategoryView {
+    private final Long id;
+    private final String name;
+    private final String status;
+    private final String error;
+    private final List<CategoryView> categories = new ArrayList<>();
+
+    public SpellCheckCategoryView(Long id, String name, String status, String error) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.error = error;
+    }
+
+    /**
+     * Категории сущности должны быть загружены: обратная связь Category.spellChecks не читается.
+     */
+    public static SpellCheckCategoryView from(SpellCheckCategory spellCheck) {
+        SpellCheckCategoryView view = new SpellCheckCategoryView(spellCheck.getId(), spellCheck.getName(),
+                spellCheck.getStatus(), spellCheck.getError());
+        for (Category category : spellCheck.getCategories()) {
+            view.categories.add(CategoryView.from(category));
+        }
+        return view;
+    }
+}
@@ -0,0 +1,49 @@
+package orf.demo.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Пишет SpellCheckCategoryView вместе с категориями за один проход, не обращаясь
+ * к провайдеру за сериализаторами вложенных объектов.
+ */
+public class SpellCheckCategoryViewSerializer extends StdSerializer<SpellCheckCategoryView> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString CATEGORIES = new SerializedString("categories");
+
+    public SpellCheckCategoryViewSerializer() {
+        super(SpellCheckCategoryView.class);
+    }
+
+    @Override
+    public void serialize(SpellCheckCategoryView spellCheck, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        if (spellCheck.getId() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(spellCheck.getId());
+        }
+        CategoryViewSerializer.writeString(generator, NAME, spellCheck.getName());
+        CategoryViewSerializer.writeString(generator, STATUS, spellCheck.getStatus());
+        CategoryViewSerializer.writeString(generator, ERROR, spellCheck.getError());
+        generator.writeFieldName(CATEGORIES);
+        List<CategoryView> categories = spellCheck.getCategories();
+        generator.writeStartArray(categories, categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            CategoryViewSerializer.write(categories.get(i), generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,34 @@
+package orf.demo.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Снимок состояния фоновой проверки для опроса и SSE-событий.
+ */
+@Getter
+public class SpellCheckJobStatus {
+    private final String id;
+    private final String state;
+    private final int total;
+    private final int processed;
+    private final int incorrect;
+    private final int saved;
+    private final Instant createdAt;
+    private final Instant finishedAt;
+    private final String error;
+
+    public SpellCheckJobStatus(String id, String state, int total, int processed, int incorrect, int saved,
+                               Instant createdAt, Instant finishedAt, String error) {
+        this.id = id;
+        this.state = state;
+        this.total = total;
+        this.processed = processed;
+        this.incorrect = incorrect;
+        this.saved = saved;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+}
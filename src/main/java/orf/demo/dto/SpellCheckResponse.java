@@ -1,16 +1,27 @@
 package orf.demo.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class SpellCheckResponse {
     private String text;
     private boolean isCorrect;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> suggestions;
 
     public SpellCheckResponse(String text, boolean isCorrect) {
         this.text = text;
         this.isCorrect = isCorrect;
     }
-}
\ No newline at end of file
+
+    public SpellCheckResponse(String text, boolean isCorrect, List<String> suggestions) {
+        this.text = text;
+        this.isCorrect = isCorrect;
+        this.suggestions = suggestions;
+    }
+}
@@ -0,0 +1,25 @@
+package orf.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Ошибка в документе: смещение и длина в UTF-16 символах исходного текста.
+ */
+@Getter
+public class SpellingError {
+    private final int offset;
+    private final int length;
+    private final String word;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> suggestions;
+
+    public SpellingError(int offset, int length, String word, List<String> suggestions) {
+        this.offset = offset;
+        this.length = length;
+        this.word = word;
+        this.suggestions = suggestions;
+    }
+}
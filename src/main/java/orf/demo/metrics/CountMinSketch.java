@@ -0,0 +1,116 @@
+package orf.demo.metrics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Count-min sketch: depth строк по width счётчиков, ключ увеличивает по одному счётчику в каждой строке,
+ * оценка — минимум из них. Оценка не меньше настоящего счёта и превышает его не больше чем на
+ * e/width от суммы всех счётов с вероятностью 1 - e^-depth. Ключ — 64-битный хэш, см. {@link #hash}.
+ * Не потокобезопасен.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final long[] counts;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 2 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch depth must be positive and width a power of two: "
+                    + depth + "x" + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.counts = new long[depth * width];
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Добавляет count к ключу и возвращает его новую оценку.
+     */
+    public long add(long hash, long count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + ((h1 + row * h2) & mask);
+            long value = counts[index] += count;
+            estimate = Math.min(estimate, value);
+        }
+        return estimate;
+    }
+
+    public long estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row * width + ((h1 + row * h2) & mask)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Прибавляет счётчики другого скетча той же формы: результат — скетч объединённого потока.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("Sketch shapes differ: " + depth + "x" + width
+                    + " and " + other.depth + "x" + other.width);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(depth);
+        out.writeInt(width);
+        for (long count : counts) {
+            out.writeLong(count);
+        }
+    }
+
+    public static CountMinSketch read(DataInput in) throws IOException {
+        CountMinSketch sketch = new CountMinSketch(in.readInt(), in.readInt());
+        for (int i = 0; i < sketch.counts.length; i++) {
+            sketch.counts[i] = in.readLong();
+        }
+        return sketch;
+    }
+
+    // FNV-1a по символам и финализатор из MurmurHash3, чтобы обе половины хэша были равномерны
+    public static long hash(CharSequence key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // ключ «слово в категории» без склейки строк
+    public static long hash(CharSequence key, CharSequence scope) {
+        return mix(hash(key) ^ hash(scope) * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
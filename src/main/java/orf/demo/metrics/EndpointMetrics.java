@@ -0,0 +1,32 @@
+package orf.demo.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class EndpointMetrics {
+
+    // ключ — "GET /spell-check/{word}", по шаблону маршрута, а не по фактическому пути
+    private final ConcurrentMap<String, OperationMetrics> byEndpoint = new ConcurrentHashMap<>();
+
+    public OperationMetrics forEndpoint(String httpMethod, String pattern) {
+        String key = httpMethod + " " + pattern;
+        return byEndpoint.computeIfAbsent(key, OperationMetrics::new);
+    }
+
+    public Collection<OperationMetrics> getAll() {
+        List<OperationMetrics> all = new ArrayList<>(byEndpoint.values());
+        all.sort(Comparator.comparing(OperationMetrics::getName));
+        return all;
+    }
+
+    public void reset() {
+        byEndpoint.values().forEach(OperationMetrics::reset);
+    }
+}
@@ -0,0 +1,55 @@
+package orf.demo.metrics;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Асинхронный запрос (SseEmitter, DeferredResult) проходит через диспетчер дважды: afterCompletion
+ * вызывается только после повторной ASYNC-диспетчеризации, поэтому замер начинается один раз
+ * при первой и заканчивается в этом последнем afterCompletion.
+ */
+@Component
+public class EndpointMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String METRICS_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".metrics";
+    private static final String START_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".start";
+
+    private final EndpointMetrics endpointMetrics;
+
+    public EndpointMetricsInterceptor(EndpointMetrics endpointMetrics) {
+        this.endpointMetrics = endpointMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || request.getAttribute(START_ATTRIBUTE) != null) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        OperationMetrics metrics = endpointMetrics.forEndpoint(request.getMethod(),
+                pattern != null ? pattern.toString() : "UNMATCHED");
+        request.setAttribute(METRICS_ATTRIBUTE, metrics);
+        request.setAttribute(START_ATTRIBUTE, metrics.start());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object metrics = request.getAttribute(METRICS_ATTRIBUTE);
+        if (!(metrics instanceof OperationMetrics operation)) {
+            return;
+        }
+        // исключения, обработанные GlobalExceptionHandler, сюда не доходят — берём их из атрибута запроса
+        Object handled = request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+        Throwable error = ex != null ? ex : handled instanceof Throwable throwable ? throwable : null;
+        String errorType = error != null ? error.getClass().getSimpleName()
+                : response.getStatus() >= 400 ? "HTTP_" + response.getStatus() : null;
+        operation.stop((Long) request.getAttribute(START_ATTRIBUTE), errorType);
+    }
+}
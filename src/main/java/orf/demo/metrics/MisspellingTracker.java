@@ -0,0 +1,405 @@
+package orf.demo.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import orf.demo.checker.WordList;
+import orf.demo.dto.MisspellingCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Самые частые ошибочные слова всего трафика, глобально и по категориям.
+ * Запись идёт в полосу, выбранную по потоку (как в {@link LatencyHistogram}): у полосы свой count-min sketch
+ * и по каждой категории набор кандидатов — слов с наибольшей оценкой в этой полосе. Раз в refreshInterval
+ * полосы сливаются: скетчи складываются, кандидаты всех полос оцениваются по общему скетчу, и готовые
+ * списки top-K публикуются одной ссылкой, так что чтение отдаёт готовый список за O(K).
+ * Со снимком состояние сохраняется в файл раз в snapshotInterval и при остановке, а при старте читается.
+ * По умолчанию выключен: на пакете из почти одних уникальных ошибок учёт сопоставим по цене с самой проверкой.
+ */
+@Component
+public class MisspellingTracker {
+    private static final Logger logger = LoggerFactory.getLogger(MisspellingTracker.class);
+
+    private static final String GLOBAL = "";
+    private static final int MAGIC = 0x4D535054;
+    private static final int VERSION = 1;
+    private static final int STRIPES =
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+    private static final Comparator<MisspellingCount> BY_COUNT =
+            Comparator.comparingLong(MisspellingCount::getCount).reversed().thenComparing(MisspellingCount::getWord);
+
+    private final boolean enabled;
+    private final int depth;
+    private final int width;
+    private final int topK;
+    private final int maxCategories;
+    private final Duration refreshInterval;
+    private final Path snapshot;
+    private final Duration snapshotInterval;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder recorded = new LongAdder();
+    private final Set<String> categories = ConcurrentHashMap.newKeySet();
+    // ключ GLOBAL — по всему трафику, остальные — категории
+    private volatile Map<String, List<MisspellingCount>> published = Map.of();
+    private volatile CountMinSketch merged;
+    private volatile Instant refreshedAt;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public MisspellingTracker(@Value("${spellchecker.misspellings.enabled:false}") boolean enabled,
+                              @Value("${spellchecker.misspellings.depth:4}") int depth,
+                              @Value("${spellchecker.misspellings.width:4096}") int width,
+                              @Value("${spellchecker.misspellings.top-k:100}") int topK,
+                              @Value("${spellchecker.misspellings.max-categories:256}") int maxCategories,
+                              @Value("${spellchecker.misspellings.refresh-interval:1s}") Duration refreshInterval,
+                              @Value("${spellchecker.misspellings.snapshot:}") String snapshot,
+                              @Value("${spellchecker.misspellings.snapshot-interval:1m}") Duration snapshotInterval) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("spellchecker.misspellings.top-k must be positive");
+        }
+        this.enabled = enabled;
+        this.depth = depth;
+        this.width = width;
+        this.topK = topK;
+        this.maxCategories = maxCategories;
+        this.refreshInterval = refreshInterval;
+        this.snapshot = snapshot.isBlank() ? null : Path.of(snapshot);
+        this.snapshotInterval = snapshotInterval;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(new CountMinSketch(depth, width));
+        }
+        this.merged = new CountMinSketch(depth, width);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (snapshot != null && Files.isRegularFile(snapshot)) {
+            try {
+                loadSnapshot();
+            } catch (IOException e) {
+                logger.warn("Снимок частот ошибок {} не читается ({}), счёт начинается заново", snapshot,
+                        e.getMessage());
+            }
+        }
+        refresh();
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "misspelling-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long refreshMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        if (snapshot != null) {
+            long snapshotMillis = snapshotInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::saveSnapshotQuietly, snapshotMillis, snapshotMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Учитывает ошибочное слово; category может быть null.
+     */
+    public void record(String word, String category) {
+        if (!enabled || word == null || word.isEmpty()) {
+            return;
+        }
+        String normalized = isNormalized(word) ? word : WordList.normalize(word);
+        long hash = CountMinSketch.hash(normalized);
+        boolean scoped = admit(category);
+        long scopedHash = scoped ? CountMinSketch.hash(normalized, category) : 0;
+        Stripe stripe = stripe();
+        synchronized (stripe) {
+            stripe.offer(GLOBAL, normalized, stripe.sketch.add(hash, 1));
+            if (scoped) {
+                stripe.offer(category, normalized, stripe.sketch.add(scopedHash, 1));
+            }
+        }
+        recorded.increment();
+    }
+
+    /**
+     * Учитывает ошибочные слова одного запроса или порции: повторы складываются локально,
+     * хэши считаются вне блокировки, и полоса захватывается один раз на всю пачку.
+     */
+    public void recordAll(Collection<String> words, String category) {
+        if (!enabled || words.isEmpty()) {
+            return;
+        }
+        Map<String, int[]> counts = new HashMap<>();
+        for (String word : words) {
+            if (word != null && !word.isEmpty()) {
+                counts.computeIfAbsent(isNormalized(word) ? word : WordList.normalize(word), w -> new int[1])[0]++;
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+        boolean scoped = admit(category);
+        String[] distinct = new String[counts.size()];
+        int[] occurrences = new int[distinct.length];
+        long[] hashes = new long[distinct.length];
+        long[] scopedHashes = new long[scoped ? distinct.length : 0];
+        int i = 0;
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            distinct[i] = entry.getKey();
+            occurrences[i] = entry.getValue()[0];
+            hashes[i] = CountMinSketch.hash(distinct[i]);
+            if (scoped) {
+                scopedHashes[i] = CountMinSketch.hash(distinct[i], category);
+            }
+            i++;
+        }
+        long total = 0;
+        Stripe stripe = stripe();
+        synchronized (stripe) {
+            for (i = 0; i < distinct.length; i++) {
+                stripe.offer(GLOBAL, distinct[i], stripe.sketch.add(hashes[i], occurrences[i]));
+                if (scoped) {
+                    stripe.offer(category, distinct[i], stripe.sketch.add(scopedHashes[i], occurrences[i]));
+                }
+                total += occurrences[i];
+            }
+        }
+        recorded.add(total);
+    }
+
+    private Stripe stripe() {
+        return stripes[(int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 40) & (STRIPES - 1)];
+    }
+
+    // собственный top-K получают первые maxCategories категорий, слова остальных учитываются только глобально
+    private boolean admit(String category) {
+        if (category == null || category.isEmpty()) {
+            return false;
+        }
+        if (categories.contains(category)) {
+            return true;
+        }
+        synchronized (categories) {
+            return categories.size() < maxCategories && categories.add(category);
+        }
+    }
+
+    // обычно слово уже в нижнем регистре, и копировать его не нужно
+    private static boolean isNormalized(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (WordList.normalize(c) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Top-limit по состоянию последнего слияния; category == null — по всему трафику.
+     */
+    public List<MisspellingCount> top(String category, int limit) {
+        if (limit < 1 || limit > topK) {
+            throw new IllegalArgumentException("Top limit must be between 1 and " + topK + ": " + limit);
+        }
+        List<MisspellingCount> top = published.getOrDefault(category == null ? GLOBAL : category, List.of());
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    /**
+     * Сливает полосы и публикует новые списки top-K. Вызывается по расписанию.
+     */
+    public synchronized void refresh() {
+        CountMinSketch sum = new CountMinSketch(depth, width);
+        Map<String, Set<String>> candidates = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum.merge(stripe.sketch);
+                stripe.candidates.forEach((scope, words) ->
+                        candidates.computeIfAbsent(scope, s -> new HashSet<>()).addAll(words.counts.keySet()));
+            }
+        }
+        Map<String, List<MisspellingCount>> next = new HashMap<>(candidates.size() * 2);
+        candidates.forEach((scope, words) -> {
+            List<MisspellingCount> ranked = new ArrayList<>(words.size());
+            for (String word : words) {
+                long hash = GLOBAL.equals(scope) ? CountMinSketch.hash(word) : CountMinSketch.hash(word, scope);
+                ranked.add(new MisspellingCount(word, sum.estimate(hash)));
+            }
+            ranked.sort(BY_COUNT);
+            next.put(scope, List.copyOf(ranked.subList(0, Math.min(topK, ranked.size()))));
+        });
+        merged = sum;
+        published = next;
+        refreshedAt = Instant.now();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("recorded", recorded.sum());
+        stats.put("categories", categories.size());
+        stats.put("topK", topK);
+        stats.put("sketch", depth + "x" + width + " x " + STRIPES + " stripes");
+        stats.put("refreshedAt", refreshedAt == null ? null : refreshedAt.toString());
+        return stats;
+    }
+
+    // снимок пишется во временный файл и атомарно заменяет прежний
+    synchronized void saveSnapshot() throws IOException {
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            merged.write(out);
+            Map<String, List<MisspellingCount>> lists = published;
+            out.writeInt(lists.size());
+            for (Map.Entry<String, List<MisspellingCount>> entry : lists.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (MisspellingCount count : entry.getValue()) {
+                    out.writeUTF(count.getWord());
+                    out.writeLong(count.getCount());
+                }
+            }
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void saveSnapshotQuietly() {
+        try {
+            saveSnapshot();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Снимок частот ошибок {} не записан: {}", snapshot, e.getMessage());
+        }
+    }
+
+    // прочитанное состояние кладётся в первую полосу до начала записи
+    void loadSnapshot() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("not a misspelling snapshot of version " + VERSION);
+            }
+            CountMinSketch sketch = CountMinSketch.read(in);
+            if (sketch.getDepth() != depth || sketch.getWidth() != width) {
+                throw new IOException("sketch shape " + sketch.getDepth() + "x" + sketch.getWidth()
+                        + " differs from configured " + depth + "x" + width);
+            }
+            Stripe stripe = stripes[0];
+            synchronized (stripe) {
+                stripe.sketch.merge(sketch);
+                int scopes = in.readInt();
+                for (int i = 0; i < scopes; i++) {
+                    String scope = in.readUTF();
+                    boolean kept = GLOBAL.equals(scope) || admit(scope);
+                    int size = in.readInt();
+                    for (int j = 0; j < size; j++) {
+                        String word = in.readUTF();
+                        long count = in.readLong();
+                        if (kept) {
+                            stripe.offer(scope, word, count);
+                        }
+                    }
+                }
+            }
+        }
+        logger.info("Частоты ошибок восстановлены из снимка {}", snapshot);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        if (snapshot != null) {
+            refresh();
+            saveSnapshotQuietly();
+        }
+    }
+
+    private final class Stripe {
+        private final CountMinSketch sketch;
+        private final Map<String, Candidates> candidates = new HashMap<>();
+
+        Stripe(CountMinSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        void offer(String scope, String word, long estimate) {
+            Candidates words = candidates.get(scope);
+            if (words == null) {
+                words = new Candidates();
+                candidates.put(scope, words);
+            } else if (!words.accepts(estimate)) {
+                return;
+            }
+            words.offer(word, estimate, 2 * topK);
+        }
+    }
+
+    /**
+     * Кандидаты полосы: не меньше capacity слов с наибольшими оценками. Слова добавляются, пока их
+     * не станет 2 * capacity, затем за одну сортировку остаются capacity лучших, а оценка последнего
+     * вытесненного становится порогом min: слова с оценкой не выше него не добавляются.
+     */
+    private static final class Candidates {
+        private final Map<String, Long> counts = new HashMap<>();
+        private long min;
+
+        boolean accepts(long estimate) {
+            return estimate > min;
+        }
+
+        void offer(String word, long estimate, int capacity) {
+            counts.put(word, estimate);
+            if (counts.size() >= 2 * capacity) {
+                prune(capacity);
+            }
+        }
+
+        private void prune(int capacity) {
+            long[] estimates = new long[counts.size()];
+            int i = 0;
+            for (long estimate : counts.values()) {
+                estimates[i++] = estimate;
+            }
+            Arrays.sort(estimates);
+            min = estimates[estimates.length - capacity - 1];
+            counts.values().removeIf(estimate -> estimate <= min);
+        }
+    }
+}
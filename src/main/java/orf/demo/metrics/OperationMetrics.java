@@ -0,0 +1,75 @@
+package orf.demo.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики одной операции (метода сервиса или HTTP-эндпоинта): вызовы, задержки,
+ * ошибки по типу исключения и число выполняющихся сейчас вызовов.
+ */
+public final class OperationMetrics {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    public long start() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    public void stop(long startNanos, Throwable error) {
+        stop(startNanos, error == null ? null : error.getClass().getSimpleName());
+    }
+
+    public void stop(long startNanos, String errorType) {
+        long elapsed = System.nanoTime() - startNanos;
+        inFlight.decrement();
+        calls.increment();
+        latency.record(elapsed);
+        if (errorType != null) {
+            errors.computeIfAbsent(errorType, type -> new LongAdder()).increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    public long getFailures() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, Long> getErrorsByType() {
+        Map<String, Long> result = new TreeMap<>();
+        errors.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    public void reset() {
+        calls.reset();
+        errors.clear();
+        latency.reset();
+    }
+}
@@ -0,0 +1,71 @@
+package orf.demo.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Текстовый формат Prometheus (version 0.0.4) для метрик сервисов и эндпоинтов.
+ */
+public final class PrometheusFormatter {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private PrometheusFormatter() {
+    }
+
+    public static String format(Collection<OperationMetrics> services, Collection<OperationMetrics> endpoints) {
+        StringBuilder out = new StringBuilder(4096);
+        write(out, "spellcheck_service", "method", services);
+        write(out, "spellcheck_http", "endpoint", endpoints);
+        return out.toString();
+    }
+
+    private static void write(StringBuilder out, String prefix, String label, Collection<OperationMetrics> operations) {
+        header(out, prefix + "_latency_seconds", "summary", "Latency of " + label + " calls");
+        for (OperationMetrics operation : operations) {
+            LatencyHistogram.Snapshot latency = operation.getLatency();
+            for (double quantile : QUANTILES) {
+                sample(out, prefix + "_latency_seconds", label, operation.getName(),
+                        ",quantile=\"" + quantile + "\"", latency.percentile(quantile) / 1e9);
+            }
+            sample(out, prefix + "_latency_seconds_sum", label, operation.getName(), "", latency.getSum() / 1e9);
+            sample(out, prefix + "_latency_seconds_count", label, operation.getName(), "", latency.getCount());
+        }
+        header(out, prefix + "_calls_total", "counter", "Completed " + label + " calls");
+        for (OperationMetrics operation : operations) {
+            sample(out, prefix + "_calls_total", label, operation.getName(), "", operation.getCalls());
+        }
+        header(out, prefix + "_errors_total", "counter", "Failed " + label + " calls by exception type");
+        for (OperationMetrics operation : operations) {
+            for (Map.Entry<String, Long> error : operation.getErrorsByType().entrySet()) {
+                sample(out, prefix + "_errors_total", label, operation.getName(),
+                        ",exception=\"" + escape(error.getKey()) + "\"", error.getValue());
+            }
+        }
+        header(out, prefix + "_in_flight", "gauge", "Currently executing " + label + " calls");
+        for (OperationMetrics operation : operations) {
+            sample(out, prefix + "_in_flight", label, operation.getName(), "", operation.getInFlight());
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String label, String value, String extraLabels,
+                               double sample) {
+        out.append(name).append('{').append(label).append("=\"").append(escape(value)).append('"')
+                .append(extraLabels).append("} ");
+        if (sample == Math.rint(sample) && !Double.isInfinite(sample)) {
+            out.append((long) sample);
+        } else {
+            out.append(sample);
+        }
+        out.append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,52 @@
+package orf.demo.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class ServiceMetrics {
+
+    // ключ — Method, чтобы на горячем пути не собирать строку имени
+    private final ConcurrentMap<Method, OperationMetrics> byMethod = new ConcurrentHashMap<>();
+
+    public OperationMetrics forMethod(Method method) {
+        OperationMetrics metrics = byMethod.get(method);
+        if (metrics != null) {
+            return metrics;
+        }
+        return byMethod.computeIfAbsent(method,
+                m -> new OperationMetrics(m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+    }
+
+    public Collection<OperationMetrics> getAll() {
+        List<OperationMetrics> all = new ArrayList<>(byMethod.values());
+        all.sort(Comparator.comparing(OperationMetrics::getName));
+        return all;
+    }
+
+    public long getTotalCalls() {
+        return byMethod.values().stream().mapToLong(OperationMetrics::getCalls).sum();
+    }
+
+    public long getTotalFailures() {
+        return byMethod.values().stream().mapToLong(OperationMetrics::getFailures).sum();
+    }
+
+    public long getCalls(Class<?> declaringType) {
+        return byMethod.entrySet().stream()
+                .filter(entry -> declaringType.isAssignableFrom(entry.getKey().getDeclaringClass()))
+                .mapToLong(entry -> entry.getValue().getCalls())
+                .sum();
+    }
+
+    public void reset() {
+        byMethod.values().forEach(OperationMetrics::reset);
+    }
+}
@@ -1,22 +1,31 @@
 package orf.demo.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "category")
+@Table(name = "category", indexes = {
+        @Index(name = "idx_category_name", columnList = "name"),
+        @Index(name = "idx_category_status", columnList = "status")
+})
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categoryIds")
+    @SequenceGenerator(name = "categoryIds", sequenceName = "category_seq", allocationSize = 50)
     private Long id;
 
     private String name;
 
     private String status;
 
+    // обратная сторона связи не сериализуется: ответы строятся из CategoryView и SpellCheckCategoryView
+    @JsonIgnore
     @ManyToMany(mappedBy = "categories")
+    @BatchSize(size = 100)
     private List<SpellCheckCategory> spellChecks = new ArrayList<>();
 
     public Long getId() {
@@ -10,7 +10,8 @@ import lombok.Setter;
 public class SpellCheck {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spellCheckIds")
+    @SequenceGenerator(name = "spellCheckIds", sequenceName = "spell_check_seq", allocationSize = 50)
     private Long id;
 
     private String word;
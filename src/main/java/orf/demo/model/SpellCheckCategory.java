@@ -1,15 +1,19 @@
 package orf.demo.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "spell_checks")
+@Table(name = "spell_checks", indexes = {
+        @Index(name = "idx_spell_checks_status", columnList = "status")
+})
 public class SpellCheckCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spellCheckCategoryIds")
+    @SequenceGenerator(name = "spellCheckCategoryIds", sequenceName = "spell_checks_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -19,13 +23,26 @@ public class SpellCheckCategory {
     private String error;
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(
             name = "spell_check_categories",
             joinColumns = @JoinColumn(name = "spell_check_id"),
-            inverseJoinColumns = @JoinColumn(name = "category_id")
+            inverseJoinColumns = @JoinColumn(name = "category_id"),
+            // составные индексы покрывают переход по связи в обе стороны без обращения к таблице
+            indexes = {
+                    @Index(name = "idx_spell_check_categories_spell_check", columnList = "spell_check_id, category_id"),
+                    @Index(name = "idx_spell_check_categories_category", columnList = "category_id, spell_check_id")
+            }
     )
     private List<Category> categories = new ArrayList<>();
 
+    // ошибочные слова по одному на строку. Сводка error при сохранении проверки не пишется:
+    // список слов в ней не ограничен длиной столбца
+    @OneToMany(mappedBy = "spellCheck", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @OrderBy("position")
+    private List<SpellingMistake> mistakes = new ArrayList<>();
+
     // Геттеры и сеттеры
     public Long getId() {
         return id;
@@ -67,6 +84,24 @@ public class SpellCheckCategory {
         this.categories = categories;
     }
 
+    public List<SpellingMistake> getMistakes() {
+        return mistakes;
+    }
+
+    public void setMistakes(List<SpellingMistake> mistakes) {
+        this.mistakes = mistakes;
+    }
+
+    public void addMistake(String word, int position) {
+        SpellingMistake mistake = new SpellingMistake();
+        mistake.setSpellCheck(this);
+        mistake.setWord(word.length() <= SpellingMistake.MAX_WORD_LENGTH
+                ? word
+                : word.substring(0, SpellingMistake.MAX_WORD_LENGTH));
+        mistake.setPosition(position);
+        mistakes.add(mistake);
+    }
+
     public void addCategory(Category category) {
         categories.add(category);
         category.getSpellChecks().add(this);
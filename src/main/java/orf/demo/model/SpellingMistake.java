@@ -0,0 +1,76 @@
+package orf.demo.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Одно ошибочное слово проверки: нормализованное слово и его позиция среди проверенных текстов.
+ * Поиск по слову и агрегаты по категориям идут по индексам этой таблицы, без разбора строки error.
+ * Подсказки не хранятся: их считает /spell-check/{word}/suggestions по текущему словарю.
+ */
+@Entity
+@Table(name = "spelling_mistakes", indexes = {
+        // поиск проверок по слову и обратный переход от проверки к её словам — оба без обращения к таблице
+        @Index(name = "idx_spelling_mistakes_word", columnList = "word, spell_check_id"),
+        @Index(name = "idx_spelling_mistakes_spell_check", columnList = "spell_check_id, word")
+})
+public class SpellingMistake {
+
+    public static final int MAX_WORD_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spellingMistakeIds")
+    @SequenceGenerator(name = "spellingMistakeIds", sequenceName = "spelling_mistakes_seq", allocationSize = 50)
+    private Long id;
+
+    // ON DELETE CASCADE в схеме: массовое удаление проверок не упирается во внешний ключ
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "spell_check_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private SpellCheckCategory spellCheck;
+
+    @Column(nullable = false, length = MAX_WORD_LENGTH)
+    private String word;
+
+    private int position;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public SpellCheckCategory getSpellCheck() {
+        return spellCheck;
+    }
+
+    public void setSpellCheck(SpellCheckCategory spellCheck) {
+        this.spellCheck = spellCheck;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    @Override
+    public String toString() {
+        return "SpellingMistake{id=" + id + ", word='" + word + "', position=" + position + "}";
+    }
+}
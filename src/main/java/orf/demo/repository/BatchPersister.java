@@ -0,0 +1,52 @@
+package orf.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Пакетная вставка новых сущностей в одной транзакции. Вставки уходят JDBC-батчами
+ * (hibernate.jdbc.batch_size), а контекст персистентности сбрасывается и очищается
+ * каждые flushInterval сущностей, чтобы память не росла с размером пакета.
+ */
+@Repository
+public class BatchPersister {
+
+    private final EntityManager entityManager;
+    private final int flushInterval;
+
+    public BatchPersister(EntityManager entityManager,
+                          @Value("${spellchecker.persistence.flush-interval:1000}") int flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushInterval);
+        }
+        this.entityManager = entityManager;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Сохраняет сущности и возвращает их число. После вызова сущности отсоединены от контекста,
+     * но уже имеют идентификаторы: ключи выдаются из пула последовательности при persist.
+     */
+    @Transactional
+    public int persistAll(Collection<?> entities) {
+        int count = 0;
+        for (Object entity : entities) {
+            entityManager.persist(entity);
+            if (++count % flushInterval == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+}
@@ -1,10 +1,37 @@
 package orf.demo.repository;
 
+import jakarta.persistence.QueryHint;
+import orf.demo.dto.CategoryView;
 import orf.demo.model.Category;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
-}
\ No newline at end of file
+
+    @Query("SELECT new orf.demo.dto.CategoryView(c.id, c.name, c.status) FROM Category c ORDER BY c.id")
+    List<CategoryView> findAllViews();
+
+    @Query("SELECT new orf.demo.dto.CategoryView(c.id, c.name, c.status) FROM Category c WHERE c.name = :name")
+    Optional<CategoryView> findViewByName(@Param("name") String name);
+
+    @Query("SELECT new orf.demo.dto.CategoryView(c.id, c.name, c.status) FROM Category c "
+            + "WHERE c.id > :afterId ORDER BY c.id")
+    List<CategoryView> findViewsAfter(@Param("afterId") long afterId, Limit limit);
+
+    // поток нужно читать внутри транзакции; для MySQL курсор включается useCursorFetch=true в URL
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new orf.demo.dto.CategoryView(c.id, c.name, c.status) FROM Category c ORDER BY c.id")
+    Stream<CategoryView> streamViews();
+}
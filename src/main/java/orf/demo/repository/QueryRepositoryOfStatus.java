@@ -1,5 +1,6 @@
 package orf.demo.repository;
 
+import orf.demo.dto.CategoryView;
 import orf.demo.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +12,7 @@ import java.util.List;
 @Repository
 public interface QueryRepositoryOfStatus extends JpaRepository<Category, Long> {
 
-    @Query("SELECT c FROM Category c WHERE c.status = :status")
-    List<Category> findCategoriesByStatus(@Param("status") String status);
+    @Query("SELECT new orf.demo.dto.CategoryView(c.id, c.name, c.status) FROM Category c "
+            + "WHERE c.status = :status ORDER BY c.id")
+    List<CategoryView> findCategoriesByStatus(@Param("status") String status);
 }
\ No newline at end of file
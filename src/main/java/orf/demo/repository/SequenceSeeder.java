@@ -0,0 +1,86 @@
+package orf.demo.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Выравнивает эмулируемые последовательности по уже записанным строкам. Без нативных последовательностей
+ * (MySQL) Hibernate хранит значение в таблице *_seq, и ddl-auto=update на существующей базе создаёт её
+ * с 1 — первые вставки получили бы занятые ключи. При старте, до первой вставки, next_val поднимается так,
+ * чтобы весь первый блок из allocationSize ключей лежал выше MAX(id). Нативные последовательности
+ * не трогаются: переносимо прочитать их значение, не израсходовав его, нельзя.
+ */
+@Component
+public class SequenceSeeder implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceSeeder.class);
+
+    // колонка, в которой Hibernate хранит значение эмулируемой последовательности
+    private static final String VALUE_COLUMN = "next_val";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        seed();
+    }
+
+    /**
+     * Поднимает отстающие последовательности и возвращает их число.
+     */
+    public int seed() {
+        List<EntityPersister> persisters = new ArrayList<>();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persisters::add);
+        int seeded = 0;
+        for (EntityPersister persister : persisters) {
+            if (persister instanceof AbstractEntityPersister entity
+                    && persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && generator.getDatabaseStructure() instanceof TableStructure structure
+                    && seed(entity, structure.getPhysicalName().render(), structure.getIncrementSize())) {
+                seeded++;
+            }
+        }
+        return seeded;
+    }
+
+    // при пуловом оптимизаторе значение V из таблицы выдаёт ключи V - increment + 1 .. V
+    private boolean seed(AbstractEntityPersister entity, String sequence, int increment) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + entity.getIdentifierColumnNames()[0] + ") FROM "
+                + entity.getTableName(), Long.class);
+        if (max == null) {
+            return false;
+        }
+        long seed = max + increment;
+        List<Long> values = jdbcTemplate.queryForList("SELECT " + VALUE_COLUMN + " FROM " + sequence, Long.class);
+        if (values.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + sequence + " (" + VALUE_COLUMN + ") VALUES (?)", seed);
+        } else if (values.get(0) < seed) {
+            // условие на старое значение: параллельно стартующий экземпляр мог уже поднять таблицу
+            jdbcTemplate.update("UPDATE " + sequence + " SET " + VALUE_COLUMN + " = ? WHERE " + VALUE_COLUMN
+                    + " = ?", seed, values.get(0));
+        } else {
+            return false;
+        }
+        log.warn("Последовательность {} отставала от {}.{} (MAX = {}), next_val поднят до {}", sequence,
+                entity.getTableName(), entity.getIdentifierColumnNames()[0], max, seed);
+        return true;
+    }
+}
@@ -1,27 +1,67 @@
 package orf.demo.repository;
 
+import jakarta.persistence.QueryHint;
+import orf.demo.dto.SpellCheckCategoryRow;
 import orf.demo.model.SpellCheckCategory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SpellCheckCategoryRepository extends JpaRepository<SpellCheckCategory, Long> {
 
     List<SpellCheckCategory> findByName(String name);
 
+    // варианты с категориями: связь many-to-many загружается тем же запросом, без N+1
+    @Query("SELECT DISTINCT scc FROM SpellCheckCategory scc LEFT JOIN FETCH scc.categories")
+    List<SpellCheckCategory> findAllWithCategories();
+
+    @EntityGraph(attributePaths = "categories")
+    Optional<SpellCheckCategory> findWithCategoriesById(Long id);
+
+    // слово ищется по idx_spelling_mistakes_word, а не сравнением со строкой error; фильтр по категории вынесен
+    // в подзапрос, чтобы fetch join вернул все категории строки, а не только искомую
+    @Query("SELECT DISTINCT scc FROM SpellCheckCategory scc LEFT JOIN FETCH scc.categories "
+            + "WHERE scc IN (SELECT m.spellCheck FROM SpellingMistake m WHERE m.word = :word) AND scc IN "
+            + "(SELECT s FROM SpellCheckCategory s JOIN s.categories c WHERE c.name = :categoryName)")
+    List<SpellCheckCategory> findWithCategoriesByMisspelledWordAndCategoryName(@Param("word") String word,
+                                                                               @Param("categoryName") String categoryName);
+
     @Query("SELECT scc FROM SpellCheckCategory scc JOIN scc.categories c WHERE c.id = :categoryId")
     List<SpellCheckCategory> findByCategoryId(@Param("categoryId") Long categoryId);
 
-    @Query("SELECT scc FROM SpellCheckCategory scc JOIN scc.categories c WHERE scc.status = :status AND c.name = :categoryName")
-    List<SpellCheckCategory> findByStatusAndCategoryName(@Param("status") String status, @Param("categoryName") String categoryName);
+    @Query("SELECT c.name FROM SpellCheckCategory scc JOIN scc.categories c WHERE scc.id = :spellCheckId")
+    List<String> findCategoryNamesBySpellCheckId(@Param("spellCheckId") Long spellCheckId);
+
+    @Query("SELECT scc.id FROM SpellCheckCategory scc WHERE scc.id > :afterId ORDER BY scc.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT new orf.demo.dto.SpellCheckCategoryRow(scc.id, scc.name, scc.status, scc.error, c.id, c.name, c.status) "
+            + "FROM SpellCheckCategory scc LEFT JOIN scc.categories c WHERE scc.id IN :ids ORDER BY scc.id, c.id")
+    List<SpellCheckCategoryRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT scc FROM SpellCheckCategory scc JOIN scc.categories c WHERE c.name = :categoryName")
-    List<SpellCheckCategory> findByCategoryName(@Param("categoryName") String categoryName);
+    @Query("SELECT new orf.demo.dto.SpellCheckCategoryRow(scc.id, scc.name, scc.status, scc.error, c.id, c.name, c.status) "
+            + "FROM SpellCheckCategory scc LEFT JOIN scc.categories c "
+            + "WHERE scc IN (SELECT s FROM SpellCheckCategory s JOIN s.categories f WHERE f.name = :categoryName) "
+            + "ORDER BY scc.id, c.id")
+    List<SpellCheckCategoryRow> findRowsByCategoryName(@Param("categoryName") String categoryName);
 
-    @Query("SELECT scc FROM SpellCheckCategory scc JOIN scc.categories c WHERE scc.error = :error AND c.name = :categoryName")
-    List<SpellCheckCategory> findByErrorAndCategoryName(@Param("error") String error, @Param("categoryName") String categoryName);
-}
\ No newline at end of file
+    // поток нужно читать внутри транзакции; для MySQL курсор включается useCursorFetch=true в URL
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new orf.demo.dto.SpellCheckCategoryRow(scc.id, scc.name, scc.status, scc.error, c.id, c.name, c.status) "
+            + "FROM SpellCheckCategory scc LEFT JOIN scc.categories c ORDER BY scc.id, c.id")
+    Stream<SpellCheckCategoryRow> streamRows();
+}
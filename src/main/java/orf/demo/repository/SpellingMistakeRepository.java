@@ -0,0 +1,27 @@
+package orf.demo.repository;
+
+import orf.demo.dto.MisspellingCount;
+import orf.demo.model.SpellingMistake;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpellingMistakeRepository extends JpaRepository<SpellingMistake, Long> {
+
+    List<SpellingMistake> findByWord(String word);
+
+    // проверки категории берутся из индекса связи, их слова — из idx_spelling_mistakes_spell_check
+    @Query("SELECT new orf.demo.dto.MisspellingCount(m.word, COUNT(m)) FROM SpellingMistake m "
+            + "JOIN m.spellCheck s JOIN s.categories c WHERE c.name = :categoryName "
+            + "GROUP BY m.word ORDER BY COUNT(m) DESC, m.word")
+    List<MisspellingCount> findTopByCategoryName(@Param("categoryName") String categoryName, Limit limit);
+
+    @Query("SELECT new orf.demo.dto.MisspellingCount(m.word, COUNT(m)) FROM SpellingMistake m "
+            + "GROUP BY m.word ORDER BY COUNT(m) DESC, m.word")
+    List<MisspellingCount> findTop(Limit limit);
+}
@@ -0,0 +1,207 @@
+package orf.demo.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Отложенная запись новых сущностей: запросы кладут их в ограниченную очередь и не ждут коммита,
+ * а единственный поток-писатель забирает их пачками и сохраняет через {@link BatchPersister}.
+ * Пачка пишется, когда набралось batchSize сущностей или прошло flushInterval с первой из них.
+ * Если очередь не освободилась за enqueueTimeout, запрос получает отказ (503), а не ждёт БД без предела.
+ * При остановке приём закрывается, а очередь дописывается до конца (в пределах shutdownTimeout).
+ */
+@Component
+public class WriteBehindPersister {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindPersister.class);
+    // кладётся в очередь при остановке, чтобы писатель не досиживал flushInterval в poll
+    private static final Object WAKE_UP = new Object();
+
+    private final BatchPersister batchPersister;
+    private final boolean enabled;
+    private final BlockingQueue<Object> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration enqueueTimeout;
+    private final Duration shutdownTimeout;
+    private final Thread writer;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    // сколько сущностей писатель уже обработал (записал или потерял); под монитором — для flush
+    private final Object progress = new Object();
+    private long processed;
+    private volatile boolean accepting;
+
+    @Autowired
+    public WriteBehindPersister(BatchPersister batchPersister,
+                                @Value("${spellchecker.persistence.write-behind.enabled:false}") boolean enabled,
+                                @Value("${spellchecker.persistence.write-behind.queue-capacity:10000}")
+                                int queueCapacity,
+                                @Value("${spellchecker.persistence.write-behind.batch-size:500}") int batchSize,
+                                @Value("${spellchecker.persistence.write-behind.flush-interval:200ms}")
+                                Duration flushInterval,
+                                @Value("${spellchecker.persistence.write-behind.enqueue-timeout:100ms}")
+                                Duration enqueueTimeout,
+                                @Value("${spellchecker.persistence.write-behind.shutdown-timeout:30s}")
+                                Duration shutdownTimeout,
+                                ThreadFactory spellCheckWriterThreadFactory) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Write-behind queue capacity and batch size must be positive");
+        }
+        this.batchPersister = batchPersister;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeout = enqueueTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = enabled ? spellCheckWriterThreadFactory.newThread(this::run) : null;
+        if (writer != null) {
+            accepting = true;
+            writer.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Ставит сущность в очередь на запись. Идентификатор она получит только при записи.
+     */
+    public void submit(Object entity) {
+        if (!accepting) {
+            throw new RejectedExecutionException("Write-behind persistence is not accepting entities");
+        }
+        try {
+            if (!queue.offer(entity, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.incrementAndGet();
+                throw new RejectedExecutionException("Write-behind queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the write-behind queue", e);
+        }
+        enqueued.incrementAndGet();
+    }
+
+    /**
+     * Ждёт, пока будет обработано всё, что поставлено в очередь до вызова. false — не дождался.
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (progress) {
+            while (processed < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void run() {
+        List<Object> batch = new ArrayList<>(batchSize);
+        try {
+            while (accepting || !queue.isEmpty()) {
+                Object first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null || first == WAKE_UP) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + flushIntervalNanos);
+                write(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Писатель прерван, в очереди осталось {} сущностей", queue.size());
+        }
+    }
+
+    // добирает пачку до batchSize, пока не истёк интервал с её первой сущности; при остановке не ждёт
+    private void fill(List<Object> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !accepting) {
+                return;
+            }
+            Object next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // ошибка записи не останавливает писателя: пачка теряется и считается в failed
+    private void write(List<Object> batch) {
+        batch.removeIf(entity -> entity == WAKE_UP);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            batchPersister.persistAll(batch);
+            batches.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            logger.error("Не удалось записать пачку из {} сущностей", batch.size(), e);
+        }
+        synchronized (progress) {
+            processed += batch.size();
+            progress.notifyAll();
+        }
+        batch.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("queued", queue.size());
+        stats.put("enqueued", enqueued.get());
+        stats.put("rejected", rejected.get());
+        stats.put("batches", batches.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        accepting = false;
+        queue.offer(WAKE_UP);
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            writer.interrupt();
+            logger.warn("Очередь записи не дописана за {}: осталось {} сущностей", shutdownTimeout, queue.size());
+            return;
+        }
+        // сущности, поставленные в очередь одновременно с закрытием приёма, уже после выхода писателя
+        List<Object> rest = new ArrayList<>(batchSize);
+        while (queue.drainTo(rest, batchSize) > 0) {
+            write(rest);
+        }
+    }
+}
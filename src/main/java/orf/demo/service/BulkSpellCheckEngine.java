@@ -0,0 +1,114 @@
+package orf.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Разбивает bulk-запрос на чанки и обрабатывает их на отдельном ограниченном ForkJoinPool.
+ * Результат пишется в массив по индексу входа, поэтому порядок ответов совпадает с порядком текстов.
+ */
+@Component
+public class BulkSpellCheckEngine {
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BulkSpellCheckEngine(@Value("${spellchecker.bulk.parallelism:0}") int parallelism,
+                                @Value("${spellchecker.bulk.chunk-size:1024}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("spellchecker.bulk.chunk-size must be positive");
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public <R> List<R> map(List<String> texts, Function<String, R> function) {
+        String[] input = texts.toArray(new String[0]);
+        Object[] output = new Object[input.length];
+        if (input.length <= chunkSize || pool.getParallelism() == 1) {
+            apply(input, output, 0, input.length, function);
+        } else {
+            pool.invoke(new ChunkTask<>(input, output, 0, input.length, chunkSize, function));
+        }
+        return asList(output);
+    }
+
+    // то же, что map, но null-тексты пропускаются без смещения порядка остальных
+    public <R> List<R> mapNonNull(List<String> texts, Function<String, R> function) {
+        List<R> mapped = map(texts, text -> text == null ? null : function.apply(text));
+        List<R> result = new ArrayList<>(mapped.size());
+        for (R item : mapped) {
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static <R> void apply(String[] input, Object[] output, int from, int to, Function<String, R> function) {
+        for (int i = from; i < to; i++) {
+            output[i] = function.apply(input[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> asList(Object[] output) {
+        return (List<R>) Arrays.asList(output);
+    }
+
+    private static final class ChunkTask<R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] input;
+        private final Object[] output;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Function<String, R> function;
+
+        ChunkTask(String[] input, Object[] output, int from, int to, int chunkSize, Function<String, R> function) {
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.function = function;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                apply(input, output, from, to, function);
+                return;
+            }
+            int middle = from + ((to - from) / chunkSize / 2) * chunkSize;
+            if (middle == from) {
+                middle = from + chunkSize;
+            }
+            invokeAll(new ChunkTask<>(input, output, from, middle, chunkSize, function),
+                    new ChunkTask<>(input, output, middle, to, chunkSize, function));
+        }
+    }
+}
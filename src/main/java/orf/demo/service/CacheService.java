@@ -1,27 +1,82 @@
 package orf.demo.service;
 
+import orf.demo.cache.CacheRegion;
+import orf.demo.cache.CacheRegionSpec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Менеджер именованных регионов кэша. Настройки региона берутся из cache.regions.&lt;name&gt;,
+ * для неописанных регионов — из cache.defaults.
+ */
 @Service
+@ConfigurationProperties(prefix = "cache")
 public class CacheService {
-    private final Map<String, Object> cache = new HashMap<>();
+
+    static final String DEFAULT_REGION = "default";
+
+    private final ConcurrentMap<String, CacheRegion<?, ?>> regions = new ConcurrentHashMap<>();
+    private Map<String, CacheRegionSpec> regionSpecs = new HashMap<>();
+    private CacheRegionSpec defaults = new CacheRegionSpec();
+
+    public <K, V> CacheRegion<K, V> region(String name, Class<K> keyType, Class<V> valueType) {
+        CacheRegion<?, ?> region = regions.computeIfAbsent(name,
+                n -> new CacheRegion<>(n, keyType, valueType, regionSpecs.getOrDefault(n, defaults)));
+        if (!region.getKeyType().equals(keyType) || !region.getValueType().equals(valueType)) {
+            throw new IllegalArgumentException("Cache region " + name + " maps "
+                    + region.getKeyType().getName() + " to " + region.getValueType().getName() + ", not "
+                    + keyType.getName() + " to " + valueType.getName());
+        }
+        @SuppressWarnings("unchecked")
+        CacheRegion<K, V> typed = (CacheRegion<K, V>) region;
+        return typed;
+    }
 
     public void put(String key, Object value) {
-        cache.put(key, value);
+        defaultRegion().put(key, value);
     }
 
     public Object get(String key) {
-        return cache.get(key);
+        return defaultRegion().get(key);
     }
 
     public void evict(String key) {
-        cache.remove(key);
+        defaultRegion().evict(key);
     }
 
     public void evictAll() {
-        cache.clear();
+        regions.values().forEach(CacheRegion::evictAll);
+    }
+
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        regions.forEach((name, region) -> stats.put(name, region.getStats()));
+        return stats;
+    }
+
+    public Map<String, CacheRegionSpec> getRegions() {
+        return regionSpecs;
+    }
+
+    public void setRegions(Map<String, CacheRegionSpec> regionSpecs) {
+        this.regionSpecs = regionSpecs;
+    }
+
+    public CacheRegionSpec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(CacheRegionSpec defaults) {
+        this.defaults = defaults;
+    }
+
+    private CacheRegion<String, Object> defaultRegion() {
+        return region(DEFAULT_REGION, String.class, Object.class);
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,21 @@
 package orf.demo.service.Interface;
 
+import orf.demo.dto.CategoryView;
+import orf.demo.dto.KeysetPage;
 import orf.demo.model.Category;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
 public interface InterfaceCategoryService {
     Category createCategory(String name);
-    List<Category> getAllCategories();
+    List<CategoryView> getAllCategories();
     Optional<Category> getCategoryById(Long id);
     Category saveCategory(Category category);
     Category updateCategory(Long id, Category category);
     void deleteCategory(Long id);
+    KeysetPage<CategoryView> getCategoriesPage(Long afterId, int limit);
+    long exportCategories(OutputStream out) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package orf.demo.service.Interface;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface InterfaceDictionaryService {
+    Map<String, Object> getStatus();
+    CompletableFuture<Long> reload();
+}
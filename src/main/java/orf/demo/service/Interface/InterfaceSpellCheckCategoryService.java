@@ -1,8 +1,14 @@
 package orf.demo.service.Interface;
 
 import orf.demo.dto.BulkSpellCheckRequest;
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.MisspellingCount;
+import orf.demo.dto.SpellCheckResponse;
+import orf.demo.dto.SpellCheckCategoryView;
 import orf.demo.model.SpellCheckCategory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface InterfaceSpellCheckCategoryService {
@@ -13,7 +19,13 @@ public interface InterfaceSpellCheckCategoryService {
     void deleteSpellCheck(Long id);
     void addCategoryToSpellCheck(Long spellCheckId, Long categoryId);
     void removeCategoryFromSpellCheck(Long spellCheckId, Long categoryId);
-    List<SpellCheckCategory> getSpellChecksByCategory(String categoryName);
+    List<SpellCheckCategoryView> getSpellChecksByCategory(String categoryName);
     List<SpellCheckCategory> findByErrorAndCategoryName(String error, String categoryName);
-    void saveSpellCheckCategory(BulkSpellCheckRequest request);
+    List<MisspellingCount> getTopMisspellings(String categoryName, int limit);
+    SpellCheckCategoryView saveSpellCheckCategory(BulkSpellCheckRequest request);
+    int saveSpellChecks(List<SpellCheckCategory> spellChecks);
+    int saveSpellCheckResults(BulkSpellCheckRequest request);
+    int saveSpellCheckResults(List<SpellCheckResponse> results);
+    KeysetPage<SpellCheckCategoryView> getSpellChecksPage(Long afterId, int limit);
+    long exportSpellChecks(OutputStream out) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package orf.demo.service.Interface;
+
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.SpellCheckJobStatus;
+import orf.demo.dto.SpellCheckResponse;
+import orf.demo.service.SpellCheckJob;
+
+import java.util.List;
+import java.util.Map;
+
+public interface InterfaceSpellCheckJobService {
+    SpellCheckJobStatus submit(List<String> texts, int suggestionLimit, boolean save);
+    SpellCheckJob getJob(String jobId);
+    SpellCheckJobStatus getStatus(String jobId);
+    KeysetPage<SpellCheckResponse> getResults(String jobId, int offset, int limit);
+    SpellCheckJobStatus cancel(String jobId);
+    Map<String, Object> getStats();
+}
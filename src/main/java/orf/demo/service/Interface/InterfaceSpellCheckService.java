@@ -1,13 +1,32 @@
 package orf.demo.service.Interface;
 
+import orf.demo.dto.DocumentCheckResponse;
+import orf.demo.dto.MisspellingCount;
 import orf.demo.dto.SpellCheckResponse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 
 public interface InterfaceSpellCheckService {
     String checkSpelling(String word);
+    String checkSpelling(String word, String language, String category);
+    List<String> suggest(String word, int limit);
     List<SpellCheckResponse> checkSpellingBulk(List<String> texts);
+    List<SpellCheckResponse> checkSpellingBulk(List<String> texts, int suggestionLimit);
+    List<SpellCheckResponse> checkSpellingBulk(List<String> texts, int suggestionLimit, String language,
+                                               String category);
     List<SpellCheckResponse> checkSpellingBulkWithParams(List<String> texts);
+    List<SpellCheckResponse> checkSpellingBulkWithParams(List<String> texts, int suggestionLimit);
+    DocumentCheckResponse checkDocument(String text, int suggestionLimit, String language, String category);
+    List<DocumentCheckResponse> checkDocuments(List<String> texts, int suggestionLimit, String language,
+                                               String category);
+    long checkSpellingStream(InputStream in, OutputStream out, int suggestionLimit) throws IOException;
     long getRequestCount();
     void resetRequestCount();
-}
\ No newline at end of file
+    Map<String, Object> getCoalescingStats();
+    List<MisspellingCount> getTopMisspellings(String category, int limit);
+    Map<String, Object> getMisspellingStats();
+}
@@ -1,22 +1,38 @@
 package orf.demo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import orf.demo.cache.SpellCheckCache;
+import orf.demo.dto.CategoryView;
+import orf.demo.dto.KeysetPage;
 import orf.demo.model.Category;
 import orf.demo.repository.CategoryRepository;
 import orf.demo.service.Interface.InterfaceCategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class InterfaceCategoryServiceImpl implements InterfaceCategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final SpellCheckCache spellCheckCache;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public InterfaceCategoryServiceImpl(CategoryRepository categoryRepository) {
+    public InterfaceCategoryServiceImpl(CategoryRepository categoryRepository, SpellCheckCache spellCheckCache,
+                                        ObjectMapper objectMapper) {
         this.categoryRepository = categoryRepository;
+        this.spellCheckCache = spellCheckCache;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -27,8 +43,8 @@ public class InterfaceCategoryServiceImpl implements InterfaceCategoryService {
     }
 
     @Override
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+    public List<CategoryView> getAllCategories() {
+        return categoryRepository.findAllViews();
     }
 
     @Override
@@ -38,19 +54,57 @@ public class InterfaceCategoryServiceImpl implements InterfaceCategoryService {
 
     @Override
     public Category saveCategory(Category category) {
-        return categoryRepository.save(category);
+        if (category.getId() != null) {
+            categoryRepository.findById(category.getId()).ifPresent(old -> spellCheckCache.invalidate(old.getName()));
+        }
+        Category saved = categoryRepository.save(category);
+        spellCheckCache.invalidate(saved.getName());
+        return saved;
     }
 
     @Override
     public Category updateCategory(Long id, Category category) {
         Category existing = categoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
+        String oldName = existing.getName();
         existing.setName(category.getName());
-        return categoryRepository.save(existing);
+        Category saved = categoryRepository.save(existing);
+        spellCheckCache.invalidate(oldName);
+        spellCheckCache.invalidate(saved.getName());
+        return saved;
     }
 
     @Override
     public void deleteCategory(Long id) {
+        Optional<String> name = categoryRepository.findById(id).map(Category::getName);
         categoryRepository.deleteById(id);
+        name.ifPresent(spellCheckCache::invalidate);
+    }
+
+    @Override
+    public KeysetPage<CategoryView> getCategoriesPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        List<CategoryView> categories = categoryRepository.findViewsAfter(KeysetPages.cursor(afterId), Limit.of(limit));
+        Long next = categories.size() == limit ? categories.get(categories.size() - 1).getId() : null;
+        return new KeysetPage<>(categories, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCategories(OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<CategoryView> categories = categoryRepository.streamViews();
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            Iterator<CategoryView> iterator = categories.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                written++;
+            }
+            if (written > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+        }
+        return written;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package orf.demo.service;
 
+import orf.demo.cache.SpellCheckCache;
+import orf.demo.dto.CategoryView;
 import orf.demo.model.Category;
 import orf.demo.repository.CategoryRepository;
 import orf.demo.repository.QueryRepositoryOfStatus;
@@ -16,16 +18,19 @@ public class InterfaceCategoryStatusServiceImpl implements InterfaceCategoryStat
 
     private final QueryRepositoryOfStatus queryRepositoryOfStatus;
     private final CategoryRepository categoryRepository;
+    private final SpellCheckCache spellCheckCache;
 
     @Autowired
     public InterfaceCategoryStatusServiceImpl(QueryRepositoryOfStatus queryRepositoryOfStatus,
-                                              CategoryRepository categoryRepository) {
+                                              CategoryRepository categoryRepository,
+                                              SpellCheckCache spellCheckCache) {
         this.queryRepositoryOfStatus = queryRepositoryOfStatus;
         this.categoryRepository = categoryRepository;
+        this.spellCheckCache = spellCheckCache;
     }
 
     @Override
-    public List<Category> getCategoriesByStatus(String status) {
+    public List<CategoryView> getCategoriesByStatus(String status) {
         return queryRepositoryOfStatus.findCategoriesByStatus(status);
     }
 
@@ -35,6 +40,7 @@ public class InterfaceCategoryStatusServiceImpl implements InterfaceCategoryStat
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + id));
         category.setStatus(updatedCategory.getStatus());
         categoryRepository.save(category);
+        spellCheckCache.invalidate(category.getName());
 
         Map<String, Object> response = new HashMap<>();
         response.put("status", "updated");
@@ -49,6 +55,7 @@ public class InterfaceCategoryStatusServiceImpl implements InterfaceCategoryStat
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + id));
         category.setStatus(null);
         categoryRepository.save(category);
+        spellCheckCache.invalidate(category.getName());
 
         Map<String, Object> response = new HashMap<>();
         response.put("status", "deleted");
@@ -58,7 +65,7 @@ public class InterfaceCategoryStatusServiceImpl implements InterfaceCategoryStat
 
     @Override
     public String getStatusByCategory(String categoryName) {
-        return categoryRepository.findByName(categoryName)
+        return categoryRepository.findViewByName(categoryName)
                 .map(category -> category.getStatus() != null ? category.getStatus() : "Active")
                 .orElse("Inactive");
     }
@@ -0,0 +1,184 @@
+package orf.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import orf.demo.checker.CachingSpellChecker;
+import orf.demo.checker.Vocabulary;
+import orf.demo.checker.VocabularyHolder;
+import orf.demo.config.DictionaryLoader;
+import orf.demo.service.Interface.InterfaceDictionaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Перезагрузка словаря без рестарта. Новая версия собирается в фоновом потоке и публикуется
+ * одной заменой ссылки в {@link VocabularyHolder}; запросы, уже закрепившие старую версию, дорабатывают на ней.
+ * Перезагрузки выполняются по одной; запросы, пришедшие пока очередная ждёт запуска, получают её результат.
+ */
+@Service
+public class InterfaceDictionaryServiceImpl implements InterfaceDictionaryService {
+    private static final Logger logger = LoggerFactory.getLogger(InterfaceDictionaryServiceImpl.class);
+
+    private final DictionaryLoader loader;
+    private final VocabularyHolder vocabulary;
+    private final ObjectProvider<CachingSpellChecker> wordCaches;
+    private final boolean watch;
+    private final Duration watchDelay;
+    private final ScheduledExecutorService reloader = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "dictionary-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // перезагрузка, ещё не начавшая читать список слов
+    private final AtomicReference<CompletableFuture<Long>> pending = new AtomicReference<>();
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile String lastError;
+    private volatile ScheduledFuture<?> watchReload;
+    private WatchService watchService;
+
+    @Autowired
+    public InterfaceDictionaryServiceImpl(DictionaryLoader loader, VocabularyHolder vocabulary,
+                                          ObjectProvider<CachingSpellChecker> wordCaches,
+                                          @Value("${spellchecker.dictionary.watch:false}") boolean watch,
+                                          @Value("${spellchecker.dictionary.watch-delay:2s}") Duration watchDelay) {
+        this.loader = loader;
+        this.vocabulary = vocabulary;
+        this.wordCaches = wordCaches;
+        this.watch = watch;
+        this.watchDelay = watchDelay;
+    }
+
+    /**
+     * Наблюдение за файлом списка слов: после изменения и паузы watch-delay без новых изменений
+     * запускается перезагрузка. Ресурсы из classpath или по URL не отслеживаются.
+     */
+    @PostConstruct
+    public void startWatching() throws IOException {
+        if (!watch) {
+            return;
+        }
+        if (!loader.getLocation().isFile()) {
+            logger.warn("Словарь {} не файл, наблюдение за изменениями выключено",
+                    loader.getLocation().getDescription());
+            return;
+        }
+        Path file = loader.getLocation().getFile().toPath().toAbsolutePath();
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread thread = new Thread(() -> watch(watchService, file.getFileName()), "dictionary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Наблюдение за словарём {}", file);
+    }
+
+    private void watch(WatchService watchService, Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        scheduleWatchReload();
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // остановка сервиса
+        }
+    }
+
+    // файл обычно пишется несколькими событиями подряд — перезагрузка откладывается до последнего
+    private synchronized void scheduleWatchReload() {
+        if (watchReload != null) {
+            watchReload.cancel(false);
+        }
+        watchReload = reloader.schedule(this::reload, watchDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Long> reload() {
+        CompletableFuture<Long> created = new CompletableFuture<>();
+        CompletableFuture<Long> existing = pending.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
+        }
+        reloader.execute(() -> {
+            // с этого момента новый запрос ставит следующую перезагрузку: файл мог измениться после чтения
+            pending.compareAndSet(created, null);
+            try {
+                created.complete(doReload());
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                lastError = e.getMessage();
+                logger.warn("Перезагрузка словаря не удалась, остаётся версия {}: {}",
+                        vocabulary.get().getVersion(), e.getMessage());
+                created.completeExceptionally(e);
+            }
+        });
+        return created;
+    }
+
+    private long doReload() throws IOException {
+        long start = System.nanoTime();
+        Vocabulary next = loader.load(vocabulary.get().getVersion() + 1);
+        vocabulary.publish(next);
+        wordCaches.orderedStream().forEach(CachingSpellChecker::clear);
+        reloads.incrementAndGet();
+        lastError = null;
+        logger.info("Словарь перезагружен: версия {}, {} слов за {} мс", next.getVersion(),
+                next.getDictionary().size(), (System.nanoTime() - start) / 1_000_000);
+        return next.getVersion();
+    }
+
+    @Override
+    public Map<String, Object> getStatus() {
+        Vocabulary current = vocabulary.get();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("version", current.getVersion());
+        status.put("source", current.getSource());
+        status.put("words", current.getDictionary().size());
+        status.put("mapped", current.getDictionary().isMapped());
+        status.put("loadedAt", current.getLoadedAt().toString());
+        status.put("reloadPending", pending.get() != null);
+        status.put("reloads", reloads.get());
+        status.put("failures", failures.get());
+        status.put("lastError", lastError);
+        status.put("watching", watchService != null);
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        reloader.shutdownNow();
+    }
+}
@@ -1,69 +1,103 @@
 package orf.demo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import orf.demo.cache.SpellCheckCache;
+import orf.demo.checker.WordList;
 import orf.demo.dto.BulkSpellCheckRequest;
+import orf.demo.dto.CategoryView;
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.MisspellingCount;
+import orf.demo.dto.SpellCheckCategoryRow;
+import orf.demo.dto.SpellCheckCategoryView;
 import orf.demo.dto.SpellCheckResponse;
 import orf.demo.model.Category;
+import orf.demo.model.SpellCheck;
 import orf.demo.model.SpellCheckCategory;
+import orf.demo.model.SpellingMistake;
+import orf.demo.repository.BatchPersister;
 import orf.demo.repository.CategoryRepository;
 import orf.demo.repository.SpellCheckCategoryRepository;
+import orf.demo.repository.SpellingMistakeRepository;
+import orf.demo.repository.WriteBehindPersister;
 import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
 import orf.demo.service.Interface.InterfaceSpellCheckService;
-import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
 public class InterfaceSpellCheckCategoryServiceImpl implements InterfaceSpellCheckCategoryService {
 
     private final SpellCheckCategoryRepository spellCheckCategoryRepository;
+    private final SpellingMistakeRepository spellingMistakeRepository;
     private final CategoryRepository categoryRepository;
     private final SpellCheckCache spellCheckCache;
     private final InterfaceSpellCheckService interfaceSpellCheckService;
+    private final BatchPersister batchPersister;
+    private final WriteBehindPersister writeBehindPersister;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public InterfaceSpellCheckCategoryServiceImpl(SpellCheckCategoryRepository spellCheckCategoryRepository,
+                                                  SpellingMistakeRepository spellingMistakeRepository,
                                                   CategoryRepository categoryRepository,
                                                   SpellCheckCache spellCheckCache,
-                                                  InterfaceSpellCheckService interfaceSpellCheckService) {
+                                                  InterfaceSpellCheckService interfaceSpellCheckService,
+                                                  BatchPersister batchPersister,
+                                                  WriteBehindPersister writeBehindPersister,
+                                                  ObjectMapper objectMapper) {
         this.spellCheckCategoryRepository = spellCheckCategoryRepository;
+        this.spellingMistakeRepository = spellingMistakeRepository;
         this.categoryRepository = categoryRepository;
         this.spellCheckCache = spellCheckCache;
         this.interfaceSpellCheckService = interfaceSpellCheckService;
+        this.batchPersister = batchPersister;
+        this.writeBehindPersister = writeBehindPersister;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public List<SpellCheckCategory> getAllSpellChecks() {
-        List<SpellCheckCategory> spellChecks = spellCheckCategoryRepository.findAll();
-        spellChecks.forEach(spellCheck -> Hibernate.initialize(spellCheck.getCategories()));
-        return spellChecks;
+        return spellCheckCategoryRepository.findAllWithCategories();
     }
 
     @Override
     public SpellCheckCategory getSpellCheckById(Long id) {
-        SpellCheckCategory spellCheck = spellCheckCategoryRepository.findById(id)
+        return spellCheckCategoryRepository.findWithCategoriesById(id)
                 .orElseThrow(() -> new RuntimeException("Spell check not found with ID: " + id));
-        Hibernate.initialize(spellCheck.getCategories());
-        return spellCheck;
     }
 
     @Override
     public SpellCheckCategory saveSpellCheck(SpellCheckCategory spellCheck) {
-        return spellCheckCategoryRepository.save(spellCheck);
+        SpellCheckCategory saved = spellCheckCategoryRepository.save(spellCheck);
+        spellCheckCache.invalidateCategories(spellCheck.getCategories());
+        return saved;
     }
 
     @Override
     public SpellCheckCategory updateSpellCheck(Long id, SpellCheckCategory spellCheck) {
-        SpellCheckCategory existingSpellCheck = spellCheckCategoryRepository.findById(id)
+        SpellCheckCategory existingSpellCheck = spellCheckCategoryRepository.findWithCategoriesById(id)
                 .orElseThrow(() -> new RuntimeException("Spell check not found with ID: " + id));
         existingSpellCheck.setName(spellCheck.getName());
         existingSpellCheck.setStatus(spellCheck.getStatus());
         existingSpellCheck.setError(spellCheck.getError());
-        return spellCheckCategoryRepository.save(existingSpellCheck);
+        SpellCheckCategory saved = spellCheckCategoryRepository.save(existingSpellCheck);
+        invalidateCategoriesOf(id);
+        return saved;
     }
 
     @Override
@@ -71,52 +105,74 @@ public class InterfaceSpellCheckCategoryServiceImpl implements InterfaceSpellChe
         if (!spellCheckCategoryRepository.existsById(id)) {
             throw new RuntimeException("Spell check not found with ID: " + id);
         }
+        List<String> categoryNames = spellCheckCategoryRepository.findCategoryNamesBySpellCheckId(id);
         spellCheckCategoryRepository.deleteById(id);
+        categoryNames.forEach(spellCheckCache::invalidate);
     }
 
     @Override
     public void addCategoryToSpellCheck(Long spellCheckId, Long categoryId) {
-        SpellCheckCategory spellCheck = spellCheckCategoryRepository.findById(spellCheckId)
+        SpellCheckCategory spellCheck = spellCheckCategoryRepository.findWithCategoriesById(spellCheckId)
                 .orElseThrow(() -> new RuntimeException("Spell check not found with ID: " + spellCheckId));
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + categoryId));
-        Hibernate.initialize(spellCheck.getCategories());
         spellCheck.addCategory(category);
         spellCheckCategoryRepository.save(spellCheck);
+        invalidateCategoriesOf(spellCheckId);
     }
 
     @Override
     public void removeCategoryFromSpellCheck(Long spellCheckId, Long categoryId) {
-        SpellCheckCategory spellCheck = spellCheckCategoryRepository.findById(spellCheckId)
+        SpellCheckCategory spellCheck = spellCheckCategoryRepository.findWithCategoriesById(spellCheckId)
                 .orElseThrow(() -> new RuntimeException("Spell check not found with ID: " + spellCheckId));
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + categoryId));
-        Hibernate.initialize(spellCheck.getCategories());
         spellCheck.removeCategory(category);
         spellCheckCategoryRepository.save(spellCheck);
+        spellCheckCache.invalidate(category.getName());
+        invalidateCategoriesOf(spellCheckId);
     }
 
     @Override
-    public List<SpellCheckCategory> getSpellChecksByCategory(String categoryName) {
-        Optional<List<SpellCheckCategory>> cachedSpellChecks = Optional.ofNullable(spellCheckCache.get(categoryName));
-        if (cachedSpellChecks.isPresent()) {
-            return cachedSpellChecks.get();
-        }
-        List<SpellCheckCategory> spellChecks = spellCheckCategoryRepository.findByCategoryName(categoryName);
-        spellChecks.forEach(spellCheck -> Hibernate.initialize(spellCheck.getCategories()));
-        spellCheckCache.put(categoryName, spellChecks);
-        return spellChecks;
+    public List<SpellCheckCategoryView> getSpellChecksByCategory(String categoryName) {
+        return spellCheckCache.getOrLoad(categoryName,
+                () -> assemble(spellCheckCategoryRepository.findRowsByCategoryName(categoryName), 16));
     }
 
+    /**
+     * Проверки категории, в которых встретилось ошибочное слово error (без учёта регистра).
+     */
     @Override
     public List<SpellCheckCategory> findByErrorAndCategoryName(String error, String categoryName) {
-        List<SpellCheckCategory> spellChecks = spellCheckCategoryRepository.findByErrorAndCategoryName(error, categoryName);
-        spellChecks.forEach(spellCheck -> Hibernate.initialize(spellCheck.getCategories()));
-        return spellChecks;
+        if (error == null) {
+            return List.of();
+        }
+        return spellCheckCategoryRepository.findWithCategoriesByMisspelledWordAndCategoryName(
+                WordList.normalize(error), categoryName);
+    }
+
+    /**
+     * Самые частые ошибочные слова категории; без категории — по всем проверкам.
+     */
+    @Override
+    public List<MisspellingCount> getTopMisspellings(String categoryName, int limit) {
+        KeysetPages.checkLimit(limit);
+        return categoryName == null
+                ? spellingMistakeRepository.findTop(Limit.of(limit))
+                : spellingMistakeRepository.findTopByCategoryName(categoryName, Limit.of(limit));
+    }
+
+    // закэшированные списки содержат сущность вместе с её категориями, поэтому сбрасываются все её категории
+    private void invalidateCategoriesOf(Long spellCheckId) {
+        spellCheckCategoryRepository.findCategoryNamesBySpellCheckId(spellCheckId).forEach(spellCheckCache::invalidate);
     }
 
+    /**
+     * Возвращает сохранённую проверку; в режиме write-behind — поставленную в очередь, ещё без id.
+     * Ошибочные слова сохраняются строками spelling_mistakes, а сводка error есть только в ответе.
+     */
     @Override
-    public void saveSpellCheckCategory(BulkSpellCheckRequest request) {
+    public SpellCheckCategoryView saveSpellCheckCategory(BulkSpellCheckRequest request) {
         if (request == null || request.getTexts() == null) {
             throw new IllegalArgumentException("Request or texts cannot be null");
         }
@@ -124,12 +180,173 @@ public class InterfaceSpellCheckCategoryServiceImpl implements InterfaceSpellChe
         SpellCheckCategory category = new SpellCheckCategory();
         category.setName("SpellCheck_" + System.currentTimeMillis());
         List<SpellCheckResponse> results = interfaceSpellCheckService.checkSpellingBulk(request.getTexts());
+        for (int i = 0; i < results.size(); i++) {
+            SpellCheckResponse response = results.get(i);
+            if (!response.isCorrect() && response.getText() != null) {
+                category.addMistake(WordList.normalize(response.getText()), i);
+            }
+        }
         String errors = results.stream()
                 .filter(response -> !response.isCorrect())
                 .map(response -> response.getText())
                 .collect(Collectors.joining(", "));
-        category.setError(errors.isEmpty() ? null : errors);
         category.setStatus(errors.isEmpty() ? "Correct" : "Error");
-        spellCheckCategoryRepository.save(category);
+        // в режиме write-behind запрос не ждёт коммита: строка появится в БД с ближайшей пачкой.
+        // Ответ строится до передачи сущности: дальше её меняет поток записи, и читать её нельзя
+        if (writeBehindPersister.isEnabled()) {
+            SpellCheckCategoryView queued = savedView(category, errors);
+            writeBehindPersister.submit(category);
+            return queued;
+        }
+        return savedView(spellCheckCategoryRepository.save(category), errors);
+    }
+
+    // у новой проверки ещё нет категорий
+    private static SpellCheckCategoryView savedView(SpellCheckCategory spellCheck, String errors) {
+        return new SpellCheckCategoryView(spellCheck.getId(), spellCheck.getName(), spellCheck.getStatus(),
+                errors.isEmpty() ? null : errors);
+    }
+
+    @Override
+    public int saveSpellChecks(List<SpellCheckCategory> spellChecks) {
+        if (spellChecks == null) {
+            throw new IllegalArgumentException("Spell checks cannot be null");
+        }
+        // категории загружаются одним запросом на весь пакет, а не по одной на строку
+        Set<Long> categoryIds = new HashSet<>();
+        for (SpellCheckCategory spellCheck : spellChecks) {
+            spellCheck.setId(null);
+            if (spellCheck.getCategories() == null) {
+                spellCheck.setCategories(new ArrayList<>());
+            }
+            if (spellCheck.getMistakes() == null) {
+                spellCheck.setMistakes(new ArrayList<>());
+            }
+            for (SpellingMistake mistake : spellCheck.getMistakes()) {
+                mistake.setId(null);
+                mistake.setSpellCheck(spellCheck);
+            }
+            spellCheck.getCategories().forEach(category -> categoryIds.add(category.getId()));
+        }
+        categoryIds.remove(null);
+        Map<Long, Category> categories = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        for (SpellCheckCategory spellCheck : spellChecks) {
+            List<Category> resolved = new ArrayList<>(spellCheck.getCategories().size());
+            for (Category category : spellCheck.getCategories()) {
+                Category existing = categories.get(category.getId());
+                if (existing == null) {
+                    throw new RuntimeException("Category not found with ID: " + category.getId());
+                }
+                resolved.add(existing);
+            }
+            spellCheck.setCategories(resolved);
+        }
+        int saved = batchPersister.persistAll(spellChecks);
+        categories.values().forEach(category -> spellCheckCache.invalidate(category.getName()));
+        return saved;
+    }
+
+    @Override
+    public int saveSpellCheckResults(BulkSpellCheckRequest request) {
+        if (request == null || request.getTexts() == null) {
+            throw new IllegalArgumentException("Request or texts cannot be null");
+        }
+        return saveSpellCheckResults(interfaceSpellCheckService.checkSpellingBulk(request.getTexts()));
+    }
+
+    @Override
+    public int saveSpellCheckResults(List<SpellCheckResponse> results) {
+        List<SpellCheck> spellChecks = new ArrayList<>(results.size());
+        for (SpellCheckResponse response : results) {
+            SpellCheck spellCheck = new SpellCheck();
+            spellCheck.setWord(response.getText());
+            spellCheck.setStatus(response.isCorrect() ? "Correct" : "Error");
+            spellCheck.setError(response.isCorrect() ? null : response.getText());
+            spellChecks.add(spellCheck);
+        }
+        return batchPersister.persistAll(spellChecks);
+    }
+
+    @Override
+    public KeysetPage<SpellCheckCategoryView> getSpellChecksPage(Long afterId, int limit) {
+        KeysetPages.checkLimit(limit);
+        // сначала страница id, затем одним запросом строки соединения с категориями для этих id
+        List<Long> ids = spellCheckCategoryRepository.findIdsAfter(KeysetPages.cursor(afterId), Limit.of(limit));
+        if (ids.isEmpty()) {
+            return new KeysetPage<>(List.of(), null);
+        }
+        List<SpellCheckCategoryView> views = assemble(spellCheckCategoryRepository.findRowsByIdIn(ids), ids.size());
+        return new KeysetPage<>(views, ids.size() == limit ? ids.get(ids.size() - 1) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportSpellChecks(OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<SpellCheckCategoryRow> rows = spellCheckCategoryRepository.streamRows();
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            ViewAssembler assembler = new ViewAssembler();
+            Iterator<SpellCheckCategoryRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                SpellCheckCategoryView completed = assembler.accept(iterator.next());
+                if (completed != null) {
+                    writer.write(completed);
+                    written++;
+                }
+            }
+            SpellCheckCategoryView last = assembler.finish();
+            if (last != null) {
+                writer.write(last);
+                writer.flush();
+                out.write('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static List<SpellCheckCategoryView> assemble(List<SpellCheckCategoryRow> rows, int expectedSize) {
+        List<SpellCheckCategoryView> views = new ArrayList<>(expectedSize);
+        ViewAssembler assembler = new ViewAssembler();
+        for (SpellCheckCategoryRow row : rows) {
+            SpellCheckCategoryView completed = assembler.accept(row);
+            if (completed != null) {
+                views.add(completed);
+            }
+        }
+        SpellCheckCategoryView last = assembler.finish();
+        if (last != null) {
+            views.add(last);
+        }
+        return views;
+    }
+
+    /**
+     * Собирает проверки из строк соединения, упорядоченных по id: проверка отдаётся,
+     * как только пришла строка следующей, так что в памяти живёт одна незавершённая проверка.
+     */
+    private static final class ViewAssembler {
+
+        private SpellCheckCategoryView current;
+
+        SpellCheckCategoryView accept(SpellCheckCategoryRow row) {
+            SpellCheckCategoryView completed = null;
+            if (current == null || !current.getId().equals(row.getId())) {
+                completed = current;
+                current = new SpellCheckCategoryView(row.getId(), row.getName(), row.getStatus(), row.getError());
+            }
+            if (row.getCategoryId() != null) {
+                current.getCategories().add(
+                        new CategoryView(row.getCategoryId(), row.getCategoryName(), row.getCategoryStatus()));
+            }
+            return completed;
+        }
+
+        SpellCheckCategoryView finish() {
+            SpellCheckCategoryView completed = current;
+            current = null;
+            return completed;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package orf.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.SpellCheckJobStatus;
+import orf.demo.dto.SpellCheckResponse;
+import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
+import orf.demo.service.Interface.InterfaceSpellCheckJobService;
+import orf.demo.service.Interface.InterfaceSpellCheckService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Фоновые проверки больших пакетов. Задачи выполняются на отдельном ограниченном пуле
+ * с ограниченной очередью: при переполнении новая задача отклоняется сразу, а не копится
+ * в памяти и не занимает потоки Tomcat. Тексты обрабатываются порциями, между порциями
+ * проверяется отмена и публикуется прогресс. Завершённые задачи хранятся retention и удаляются
+ * по расписанию; общее число текстов во всех хранимых задачах ограничено, сверх него — 503.
+ */
+@Service
+public class InterfaceSpellCheckJobServiceImpl implements InterfaceSpellCheckJobService {
+    private static final Logger logger = LoggerFactory.getLogger(InterfaceSpellCheckJobServiceImpl.class);
+
+    private final InterfaceSpellCheckService interfaceSpellCheckService;
+    private final InterfaceSpellCheckCategoryService interfaceSpellCheckCategoryService;
+    private final ThreadPoolExecutor executor;
+    // подписчики на события задач: отправка клиенту блокируется на сокете и не должна занимать рабочие потоки;
+    // у подписки в очереди не больше одной доставки, так что очередь ограничена числом подписчиков.
+    // Этот же пул удаляет устаревшие задачи
+    private final ScheduledThreadPoolExecutor events;
+    private final int queueCapacity;
+    private final int maxTexts;
+    private final long maxRetainedTexts;
+    private final int chunkSize;
+    private final Duration retention;
+    private final ConcurrentMap<String, SpellCheckJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong retainedTexts = new AtomicLong();
+
+    public InterfaceSpellCheckJobServiceImpl(InterfaceSpellCheckService interfaceSpellCheckService,
+                                             InterfaceSpellCheckCategoryService interfaceSpellCheckCategoryService,
+                                             @Value("${spellchecker.jobs.workers:2}") int workers,
+                                             @Value("${spellchecker.jobs.queue-capacity:16}") int queueCapacity,
+                                             @Value("${spellchecker.jobs.max-texts:1000000}") int maxTexts,
+                                             @Value("${spellchecker.jobs.max-retained-texts:4000000}")
+                                             long maxRetainedTexts,
+                                             @Value("${spellchecker.jobs.chunk-size:4096}") int chunkSize,
+                                             @Value("${spellchecker.jobs.retention:15m}") Duration retention,
+                                             @Value("${spellchecker.jobs.event-threads:4}") int eventThreads,
+                                             ThreadFactory spellCheckJobThreadFactory,
+                                             ThreadFactory spellCheckEventsThreadFactory) {
+        if (workers < 1 || queueCapacity < 1 || maxTexts < 1 || chunkSize < 1 || eventThreads < 1) {
+            throw new IllegalArgumentException(
+                    "Job workers, queue capacity, max texts, chunk size and event threads must be positive");
+        }
+        if (maxRetainedTexts < maxTexts) {
+            throw new IllegalArgumentException("Max retained texts must not be below max texts per job: "
+                    + maxRetainedTexts + " < " + maxTexts);
+        }
+        this.interfaceSpellCheckService = interfaceSpellCheckService;
+        this.interfaceSpellCheckCategoryService = interfaceSpellCheckCategoryService;
+        this.queueCapacity = queueCapacity;
+        this.maxTexts = maxTexts;
+        this.maxRetainedTexts = maxRetainedTexts;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), spellCheckJobThreadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.events = new ScheduledThreadPoolExecutor(eventThreads, spellCheckEventsThreadFactory);
+        long purgeInterval = Math.max(1000, Math.min(retention.toMillis(), 60_000));
+        events.scheduleWithFixedDelay(this::purgeExpired, purgeInterval, purgeInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public SpellCheckJobStatus submit(List<String> texts, int suggestionLimit, boolean save) {
+        if (texts == null || texts.isEmpty()) {
+            throw new IllegalArgumentException("Texts cannot be null or empty");
+        }
+        if (texts.size() > maxTexts) {
+            throw new IllegalArgumentException("Too many texts in one job: " + texts.size() + " > " + maxTexts);
+        }
+        SuggestionLimits.checkLimit(suggestionLimit);
+        purgeExpired();
+        if (retainedTexts.addAndGet(texts.size()) > maxRetainedTexts) {
+            retainedTexts.addAndGet(-texts.size());
+            throw new RejectedExecutionException("Jobs already hold " + maxRetainedTexts
+                    + " texts, retry after finished jobs expire");
+        }
+        SpellCheckJob job = new SpellCheckJob(UUID.randomUUID().toString(), List.copyOf(texts), suggestionLimit, save,
+                events);
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(executor.submit(() -> run(job)));
+        } catch (RejectedExecutionException e) {
+            remove(job);
+            throw new RejectedExecutionException("Job queue is full (" + queueCapacity + " jobs waiting)", e);
+        }
+        return job.getStatus();
+    }
+
+    @Override
+    public SpellCheckJob getJob(String jobId) {
+        SpellCheckJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Spell-check job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public SpellCheckJobStatus getStatus(String jobId) {
+        return getJob(jobId).getStatus();
+    }
+
+    @Override
+    public KeysetPage<SpellCheckResponse> getResults(String jobId, int offset, int limit) {
+        KeysetPages.checkLimit(limit);
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + offset);
+        }
+        SpellCheckJob job = getJob(jobId);
+        boolean terminal = job.getState().isTerminal();
+        int available = job.getProcessed();
+        List<SpellCheckResponse> results = job.getResults(offset, limit);
+        int next = offset + results.size();
+        // пока задача идёт, курсор указывает и на ещё не готовые результаты
+        boolean more = next < available || (!terminal && next < job.getStatus().getTotal());
+        return new KeysetPage<>(results, more ? (long) next : null);
+    }
+
+    @Override
+    public SpellCheckJobStatus cancel(String jobId) {
+        SpellCheckJob job = getJob(jobId);
+        job.cancel();
+        return job.getStatus();
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("jobs", jobs.size());
+        stats.put("retainedTexts", retainedTexts.get());
+        stats.put("maxRetainedTexts", maxRetainedTexts);
+        stats.put("running", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("workers", executor.getMaximumPoolSize());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(SpellCheckJob::cancel);
+        executor.shutdownNow();
+        events.shutdown();
+    }
+
+    private void run(SpellCheckJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            List<String> texts = job.getTexts();
+            for (int from = 0; from < texts.size(); from += chunkSize) {
+                if (Thread.currentThread().isInterrupted() || job.getState() != SpellCheckJob.State.RUNNING) {
+                    return;
+                }
+                List<String> chunk = texts.subList(from, Math.min(from + chunkSize, texts.size()));
+                List<SpellCheckResponse> results =
+                        interfaceSpellCheckService.checkSpellingBulk(chunk, job.getSuggestionLimit());
+                int saved = job.isSave() ? interfaceSpellCheckCategoryService.saveSpellCheckResults(results) : 0;
+                job.append(results, saved);
+            }
+            job.complete();
+        } catch (RuntimeException e) {
+            if (job.getState() == SpellCheckJob.State.RUNNING) {
+                logger.error("Фоновая проверка {} завершилась ошибкой: {}", job.getId(), e.getMessage(), e);
+            }
+            job.fail(e);
+        }
+    }
+
+    private void purgeExpired() {
+        Instant threshold = Instant.now().minus(retention);
+        for (SpellCheckJob job : jobs.values()) {
+            if (job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold)) {
+                remove(job);
+            }
+        }
+    }
+
+    private void remove(SpellCheckJob job) {
+        if (jobs.remove(job.getId(), job)) {
+            retainedTexts.addAndGet(-job.getTexts().size());
+        }
+    }
+}
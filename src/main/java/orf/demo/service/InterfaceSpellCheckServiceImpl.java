@@ -1,69 +1,424 @@
 package orf.demo.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import orf.demo.cache.SingleFlight;
+import orf.demo.checker.CachingSpellChecker;
+import orf.demo.checker.DocumentChecker;
 import orf.demo.checker.SpellChecker;
+import orf.demo.checker.SpellCheckerRegistry;
+import orf.demo.checker.SymSpellSuggester;
+import orf.demo.checker.VocabularyHolder;
+import orf.demo.checker.WordList;
+import orf.demo.dto.DocumentCheckResponse;
 import orf.demo.dto.SpellCheckResponse;
+import orf.demo.dto.SpellingError;
+import orf.demo.dto.MisspellingCount;
+import orf.demo.metrics.MisspellingTracker;
+import orf.demo.metrics.ServiceMetrics;
 import orf.demo.service.Interface.InterfaceSpellCheckService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class InterfaceSpellCheckServiceImpl implements InterfaceSpellCheckService {
 
-    private final SpellChecker spellChecker;
-    private final RequestCounter requestCounter;
+    private final SpellCheckerRegistry checkers;
+    private final VocabularyHolder vocabulary;
+    private final BulkSpellCheckEngine bulkEngine;
+    private final ServiceMetrics serviceMetrics;
+    private final ObjectMapper objectMapper;
+    private final MisspellingTracker misspellings;
+    private final int maxStreamLineLength;
+    private final int maxStreamBatchChars;
+    // всплески одинаковых одиночных запросов: ключ — чекер и нормализованное слово (проверка не зависит от регистра)
+    private final SingleFlight<WordKey, String> wordChecks = new SingleFlight<>();
+    private final SingleFlight<SuggestionKey, List<String>> suggestions = new SingleFlight<>();
 
     @Autowired
-    public InterfaceSpellCheckServiceImpl(@Qualifier("simpleSpellChecker") SpellChecker spellChecker,
-                                          RequestCounter requestCounter) {
-        this.spellChecker = spellChecker;
-        this.requestCounter = requestCounter;
+    public InterfaceSpellCheckServiceImpl(SpellCheckerRegistry checkers,
+                                          VocabularyHolder vocabulary,
+                                          BulkSpellCheckEngine bulkEngine,
+                                          ServiceMetrics serviceMetrics,
+                                          ObjectMapper objectMapper,
+                                          MisspellingTracker misspellings,
+                                          @Value("${spellchecker.stream.max-line-length:1048576}")
+                                          int maxStreamLineLength,
+                                          @Value("${spellchecker.stream.max-batch-chars:4194304}")
+                                          int maxStreamBatchChars) {
+        if (maxStreamLineLength < 1) {
+            throw new IllegalArgumentException("spellchecker.stream.max-line-length must be positive");
+        }
+        if (maxStreamBatchChars < 1) {
+            throw new IllegalArgumentException("spellchecker.stream.max-batch-chars must be positive");
+        }
+        this.checkers = checkers;
+        this.vocabulary = vocabulary;
+        this.bulkEngine = bulkEngine;
+        this.serviceMetrics = serviceMetrics;
+        this.objectMapper = objectMapper;
+        this.misspellings = misspellings;
+        this.maxStreamLineLength = maxStreamLineLength;
+        this.maxStreamBatchChars = maxStreamBatchChars;
     }
 
     @Override
     public String checkSpelling(String word) {
-        return spellChecker.checkSpelling(word);
+        return checkSpelling(word, null, null);
+    }
+
+    @Override
+    public String checkSpelling(String word, String language, String category) {
+        SpellChecker checker = checkers.route(language, category).checkerFor(word);
+        if (word == null) {
+            return checker.checkSpelling(null);
+        }
+        String verdict = wordChecks.execute(new WordKey(checker, WordList.normalize(word)),
+                () -> checker.checkSpelling(word));
+        // учитывается каждый запрос, в том числе присоединившийся к чужой проверке
+        if (!"Correct".equals(verdict)) {
+            misspellings.record(word, category);
+        }
+        return verdict;
+    }
+
+    @Override
+    public List<String> suggest(String word, int limit) {
+        SuggestionLimits.checkLimit(limit);
+        if (word == null) {
+            return computeSuggestions(checkers.getDefault(), vocabulary.get().getSuggester(), null, limit);
+        }
+        return suggestions.execute(new SuggestionKey(WordList.normalize(word), limit),
+                () -> computeSuggestions(checkers.getDefault(), vocabulary.get().getSuggester(), word, limit));
+    }
+
+    // подсказки из общего словаря; кэш слов используется, если слово проверял кэширующий чекер
+    private List<String> computeSuggestions(SpellChecker checker, SymSpellSuggester suggester, String word,
+                                            int limit) {
+        if (checker instanceof CachingSpellChecker cachingChecker) {
+            return cachingChecker.suggest(word, limit, suggester::suggest);
+        }
+        return suggester.suggest(word, limit);
     }
 
     @Override
     public List<SpellCheckResponse> checkSpellingBulk(List<String> texts) {
+        return checkSpellingBulk(texts, 0);
+    }
+
+    @Override
+    public List<SpellCheckResponse> checkSpellingBulk(List<String> texts, int suggestionLimit) {
+        return checkSpellingBulk(texts, suggestionLimit, null, null);
+    }
+
+    @Override
+    public List<SpellCheckResponse> checkSpellingBulk(List<String> texts, int suggestionLimit, String language,
+                                                      String category) {
         if (texts == null) {
             throw new IllegalArgumentException("Список текстов не может быть null");
         }
-        return texts.stream()
-                .map(text -> {
-                    String result = spellChecker.checkSpelling(text);
-                    return new SpellCheckResponse(text, "Correct".equals(result));
-                })
-                .collect(Collectors.toList());
+        SuggestionLimits.checkLimit(suggestionLimit);
+        // весь запрос проверяется одной версией словаря, даже если её заменят посередине
+        SpellCheckerRegistry.Route route = checkers.route(language, category).pin();
+        SymSpellSuggester suggester = vocabulary.get().getSuggester();
+        return recordMisspellings(bulkEngine.map(texts, text -> check(route, suggester, text, suggestionLimit)),
+                category);
     }
 
     @Override
     public List<SpellCheckResponse> checkSpellingBulkWithParams(List<String> texts) {
+        return checkSpellingBulkWithParams(texts, 0);
+    }
+
+    @Override
+    public List<SpellCheckResponse> checkSpellingBulkWithParams(List<String> texts, int suggestionLimit) {
         if (texts == null) {
             throw new IllegalArgumentException("Список текстов не может быть null");
         }
-        return texts.stream()
-                .filter(Objects::nonNull)
-                .map(text -> {
-                    String result = spellChecker.checkSpelling(text);
-                    return new SpellCheckResponse(text, "Correct".equals(result));
-                })
-                .collect(Collectors.toList());
+        SuggestionLimits.checkLimit(suggestionLimit);
+        SpellCheckerRegistry.Route route = checkers.defaultRoute().pin();
+        SymSpellSuggester suggester = vocabulary.get().getSuggester();
+        return recordMisspellings(bulkEngine.mapNonNull(texts, text -> check(route, suggester, text, suggestionLimit)),
+                null);
     }
 
     @Override
+    public DocumentCheckResponse checkDocument(String text, int suggestionLimit, String language, String category) {
+        if (text == null) {
+            throw new IllegalArgumentException("Текст документа не может быть null");
+        }
+        SuggestionLimits.checkLimit(suggestionLimit);
+        return checkDocument(new DocumentChecker(checkers.route(language, category).pin()),
+                checkers.getDefault().pin(), vocabulary.get().getSuggester(), text, suggestionLimit, category);
+    }
 
+    @Override
+    public List<DocumentCheckResponse> checkDocuments(List<String> texts, int suggestionLimit, String language,
+                                                      String category) {
+        if (texts == null) {
+            throw new IllegalArgumentException("Список текстов не может быть null");
+        }
+        SuggestionLimits.checkLimit(suggestionLimit);
+        DocumentChecker documentChecker = new DocumentChecker(checkers.route(language, category).pin());
+        SpellChecker suggestionCache = checkers.getDefault().pin();
+        SymSpellSuggester suggester = vocabulary.get().getSuggester();
+        return bulkEngine.map(texts, text -> checkDocument(documentChecker, suggestionCache, suggester,
+                text == null ? "" : text, suggestionLimit, category));
+    }
+
+    // без автоопределения маршрут один на весь документ, иначе письменность определяется по каждому слову
+    private DocumentCheckResponse checkDocument(DocumentChecker documentChecker, SpellChecker suggestionCache,
+                                                SymSpellSuggester suggester, String text, int suggestionLimit,
+                                                String category) {
+        List<SpellingError> errors = new ArrayList<>();
+        int words = documentChecker.check(text.toCharArray(), 0, text.length(), (chars, offset, length) -> {
+            String word = new String(chars, offset, length);
+            List<String> suggestions = suggestionLimit > 0
+                    ? computeSuggestions(suggestionCache, suggester, word, suggestionLimit)
+                    : null;
+            errors.add(new SpellingError(offset, length, word, suggestions));
+        });
+        if (misspellings.isEnabled() && !errors.isEmpty()) {
+            misspellings.recordAll(errors.stream().map(SpellingError::getWord).toList(), category);
+        }
+        return new DocumentCheckResponse(words, errors);
+    }
+
+    /**
+     * Построчная проверка: каждая строка входа — слово, JSON-строка или объект {"text": ...}.
+     * Вход читается пачками до chunkSize * parallelism строк и не больше spellchecker.stream.max-batch-chars
+     * символов, пачка проверяется параллельно и сразу пишется в выход как NDJSON. Следующая пачка читается
+     * только после записи предыдущей, поэтому медленный клиент тормозит чтение, а память не зависит
+     * от размера тела. Строка длиннее spellchecker.stream.max-line-length не накапливается целиком.
+     * Ошибка входа до первой записанной пачки отклоняет запрос (400); после неё ответ уже отправляется,
+     * поэтому уже прочитанные строки дописываются, последней идёт запись {"line": N, "error": ...}
+     * и поток заканчивается.
+     * Версия словаря закрепляется на пачку: длинный поток подхватывает перезагрузку между пачками.
+     */
+    @Override
+    public long checkSpellingStream(InputStream in, OutputStream out, int suggestionLimit) throws IOException {
+        SuggestionLimits.checkLimit(suggestionLimit);
+        int batchSize = bulkEngine.getChunkSize() * bulkEngine.getParallelism();
+        SpellCheckerRegistry.Route route = checkers.defaultRoute();
+        LineReader reader = new LineReader(new InputStreamReader(in, StandardCharsets.UTF_8), maxStreamLineLength);
+        long processed = 0;
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            long batchChars = 0;
+            while (true) {
+                String text;
+                try {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        break;
+                    }
+                    text = parseStreamLine(line, reader.getLineNumber());
+                } catch (IllegalArgumentException e) {
+                    if (processed == 0) {
+                        throw e;
+                    }
+                    processed += writeBatch(writer, route, batch, suggestionLimit);
+                    writer.write(new StreamError(reader.getLineNumber(), e.getMessage()));
+                    break;
+                }
+                if (text == null) {
+                    continue;
+                }
+                batch.add(text);
+                batchChars += text.length();
+                if (batch.size() == batchSize || batchChars >= maxStreamBatchChars) {
+                    processed += writeBatch(writer, route, batch, suggestionLimit);
+                    batchChars = 0;
+                }
+            }
+            processed += writeBatch(writer, route, batch, suggestionLimit);
+            if (processed > 0) {
+                out.write('\n');
+            }
+        }
+        return processed;
+    }
+
+    private int writeBatch(SequenceWriter writer, SpellCheckerRegistry.Route route, List<String> batch,
+                           int suggestionLimit) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        SpellCheckerRegistry.Route pinned = route.pin();
+        SymSpellSuggester suggester = vocabulary.get().getSuggester();
+        for (SpellCheckResponse response : recordMisspellings(bulkEngine.map(batch,
+                text -> check(pinned, suggester, text, suggestionLimit)), null)) {
+            writer.write(response);
+        }
+        writer.flush();
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private String parseStreamLine(String line, long lineNumber) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        char first = trimmed.charAt(0);
+        try {
+            if (first == '"') {
+                return objectMapper.readValue(trimmed, String.class);
+            }
+            if (first == '{') {
+                JsonNode text = objectMapper.readTree(trimmed).get("text");
+                if (text == null || !text.isTextual()) {
+                    throw new IllegalArgumentException("Строка NDJSON " + lineNumber + " должна содержать поле text");
+                }
+                return text.asText();
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Строка NDJSON " + lineNumber + " не разбирается как JSON: "
+                    + e.getOriginalMessage());
+        }
+        return trimmed;
+    }
+
+    // подсказки считаются только для ошибочных слов и только если их запросили;
+    // bulk идёт мимо объединения запросов — его поток и так разбит на чанки без повторов по ключу
+    private SpellCheckResponse check(SpellCheckerRegistry.Route route, SymSpellSuggester suggester, String text,
+                                     int suggestionLimit) {
+        SpellChecker checker = route.checkerFor(text);
+        boolean correct = "Correct".equals(checker.checkSpelling(text));
+        if (correct || suggestionLimit <= 0) {
+            return new SpellCheckResponse(text, correct);
+        }
+        return new SpellCheckResponse(text, false, computeSuggestions(checker, suggester, text, suggestionLimit));
+    }
+
+    // ошибки пакета учитываются одной пачкой после проверки, а не по слову из рабочих потоков
+    private List<SpellCheckResponse> recordMisspellings(List<SpellCheckResponse> responses, String category) {
+        if (!misspellings.isEnabled()) {
+            return responses;
+        }
+        List<String> misspelled = new ArrayList<>();
+        for (SpellCheckResponse response : responses) {
+            if (response != null && !response.isCorrect()) {
+                misspelled.add(response.getText());
+            }
+        }
+        misspellings.recordAll(misspelled, category);
+        return responses;
+    }
+
+    @Override
     public long getRequestCount() {
-        return requestCounter.getCount();
+        return serviceMetrics.getTotalCalls();
     }
 
     @Override
     public void resetRequestCount() {
-        requestCounter.reset();
+        serviceMetrics.reset();
+    }
+
+    @Override
+    public List<MisspellingCount> getTopMisspellings(String category, int limit) {
+        return misspellings.top(category, limit);
+    }
+
+    @Override
+    public Map<String, Object> getMisspellingStats() {
+        return misspellings.getStats();
+    }
+
+    @Override
+    public Map<String, Object> getCoalescingStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("checks", wordChecks.getExecutions());
+        stats.put("coalescedChecks", wordChecks.getCoalesced());
+        stats.put("suggestions", suggestions.getExecutions());
+        stats.put("coalescedSuggestions", suggestions.getCoalesced());
+        return stats;
+    }
+
+    private record WordKey(SpellChecker checker, String word) {
+    }
+
+    // последняя запись потока, если вход оборвался ошибкой после начала ответа
+    private record StreamError(long line, String error) {
+    }
+
+    private record SuggestionKey(String word, int limit) {
+    }
+
+    /**
+     * Как BufferedReader.readLine (концы строк \n, \r и \r\n), но строка длиннее maxLength
+     * не собирается целиком: чтение прерывается, как только лимит превышен.
+     */
+    private static final class LineReader {
+        private final Reader in;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+        private long lineNumber;
+
+        LineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        // номер последней прочитанной (или прерванной на лимите) строки, с 1
+        long getLineNumber() {
+            return lineNumber;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            lineNumber++;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(0, in.read(buffer, 0, buffer.length));
+                    position = 0;
+                    if (limit == 0) {
+                        return line.length() > 0 ? line.toString() : null;
+                    }
+                }
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (buffer[position] == '\n') {
+                        position++;
+                        continue;
+                    }
+                }
+                int end = position;
+                while (end < limit && buffer[end] != '\n' && buffer[end] != '\r') {
+                    end++;
+                }
+                if (line.length() + (end - position) > maxLength) {
+                    throw new IllegalArgumentException("Строка потока " + lineNumber + " длиннее " + maxLength
+                            + " символов");
+                }
+                line.append(buffer, position, end - position);
+                position = end;
+                if (end < limit) {
+                    skipLineFeed = buffer[end] == '\r';
+                    position++;
+                    return line.toString();
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
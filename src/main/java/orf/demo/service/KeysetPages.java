@@ -0,0 +1,23 @@
+package orf.demo.service;
+
+/**
+ * Общие правила keyset-пагинации по id для списковых методов сервисов.
+ */
+final class KeysetPages {
+
+    static final int MAX_LIMIT = 1000;
+
+    private KeysetPages() {
+    }
+
+    static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+    }
+
+    // идентификаторы выдаются последовательностью с 1, поэтому 0 — позиция перед первой строкой
+    static long cursor(Long afterId) {
+        return afterId == null ? 0 : afterId;
+    }
+}
@@ -0,0 +1,212 @@
+package orf.demo.service;
+
+import orf.demo.dto.SpellCheckJobStatus;
+import orf.demo.dto.SpellCheckResponse;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Фоновая проверка большого пакета текстов. Результаты пишет один рабочий поток
+ * по порядку, поэтому готовые результаты всегда образуют префикс [0, processed).
+ */
+public final class SpellCheckJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+
+        public boolean isTerminal() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id;
+    private final List<String> texts;
+    private final int suggestionLimit;
+    private final boolean save;
+    private final SpellCheckResponse[] results;
+    private final Instant createdAt = Instant.now();
+    private final Executor events;
+    private final List<Subscription> listeners = new CopyOnWriteArrayList<>();
+    // processed пишется после слотов results: volatile-запись публикует их читающим потокам
+    private volatile int processed;
+    // переходы — под монитором задачи; итоговые поля пишутся до состояния, и видевший
+    // терминальное состояние видит и их
+    private volatile State state = State.QUEUED;
+    private volatile int incorrect;
+    private volatile int saved;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    SpellCheckJob(String id, List<String> texts, int suggestionLimit, boolean save, Executor events) {
+        this.id = id;
+        this.texts = texts;
+        this.suggestionLimit = suggestionLimit;
+        this.save = save;
+        this.results = new SpellCheckResponse[texts.size()];
+        this.events = events;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public SpellCheckJobStatus getStatus() {
+        State current = state;
+        return new SpellCheckJobStatus(id, current.name(), results.length, processed, incorrect, saved,
+                createdAt, finishedAt, error);
+    }
+
+    public List<SpellCheckResponse> getResults(int offset, int limit) {
+        int end = (int) Math.min((long) offset + limit, processed);
+        if (offset >= end) {
+            return List.of();
+        }
+        return Arrays.asList(Arrays.copyOfRange(results, offset, end));
+    }
+
+    /**
+     * Подписчик сразу получает текущее состояние, затем — изменения до завершения. Вызывается он в пуле
+     * событий, а не в рабочем потоке задачи, по одному вызову за раз; пока он занят, промежуточные
+     * состояния схлопываются и следующим вызовом приходит последнее.
+     */
+    public void subscribe(Consumer<SpellCheckJobStatus> listener) {
+        Subscription subscription = new Subscription(listener);
+        listeners.add(subscription);
+        subscription.signal();
+    }
+
+    public void unsubscribe(Consumer<SpellCheckJobStatus> listener) {
+        listeners.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    List<String> getTexts() {
+        return texts;
+    }
+
+    int getSuggestionLimit() {
+        return suggestionLimit;
+    }
+
+    boolean isSave() {
+        return save;
+    }
+
+    int getProcessed() {
+        return processed;
+    }
+
+    Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    synchronized boolean start() {
+        if (state != State.QUEUED) {
+            return false;
+        }
+        state = State.RUNNING;
+        return true;
+    }
+
+    void append(List<SpellCheckResponse> chunk, int savedInChunk) {
+        int from = processed;
+        int misspelled = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            SpellCheckResponse response = chunk.get(i);
+            results[from + i] = response;
+            if (!response.isCorrect()) {
+                misspelled++;
+            }
+        }
+        incorrect += misspelled;
+        saved += savedInChunk;
+        processed = from + chunk.size();
+        publish();
+    }
+
+    boolean cancel() {
+        if (!finish(State.CANCELLED, null)) {
+            return false;
+        }
+        Future<?> running = future;
+        if (running != null) {
+            running.cancel(true);
+        }
+        return true;
+    }
+
+    void complete() {
+        if (state == State.RUNNING) {
+            finish(State.COMPLETED, null);
+        }
+    }
+
+    void fail(Throwable failure) {
+        if (state == State.RUNNING) {
+            finish(State.FAILED, failure.getClass().getSimpleName() + ": " + failure.getMessage());
+        }
+    }
+
+    private synchronized boolean finish(State terminal, String failure) {
+        if (state.isTerminal()) {
+            return false;
+        }
+        error = failure;
+        finishedAt = Instant.now();
+        state = terminal;
+        publish();
+        listeners.clear();
+        return true;
+    }
+
+    private void publish() {
+        for (Subscription subscription : listeners) {
+            subscription.signal();
+        }
+    }
+
+    // signals > 0 — доставка запланирована или идёт; пока она идёт, новые сигналы лишь продлевают её цикл
+    private final class Subscription implements Runnable {
+        private final Consumer<SpellCheckJobStatus> listener;
+        private final AtomicInteger signals = new AtomicInteger();
+
+        Subscription(Consumer<SpellCheckJobStatus> listener) {
+            this.listener = listener;
+        }
+
+        void signal() {
+            if (signals.getAndIncrement() == 0) {
+                try {
+                    events.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // пул событий остановлен вместе с сервисом: доставлять некому
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int seen;
+            do {
+                seen = signals.get();
+                listener.accept(getStatus());
+            } while (signals.addAndGet(-seen) != 0);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package orf.demo.service;
+
+/**
+ * Ограничение числа подсказок на слово для методов сервисов: лимит приходит из параметров запроса,
+ * а под него заранее выделяются буферы кандидатов.
+ */
+final class SuggestionLimits {
+
+    static final int MAX_LIMIT = 50;
+
+    private SuggestionLimits() {
+    }
+
+    // 0 — без подсказок
+    static void checkLimit(int limit) {
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Suggestion limit must be between 0 and " + MAX_LIMIT + ": " + limit);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package orf.demo.aspect;
+
+import orf.demo.metrics.OperationMetrics;
+import orf.demo.metrics.ServiceMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceInstrumentationAspectTest {
+
+    private ServiceMetrics serviceMetrics;
+    private ServiceInstrumentationAspect aspect;
+    private ProceedingJoinPoint joinPoint;
+    private Method method;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        serviceMetrics = new ServiceMetrics();
+        aspect = new ServiceInstrumentationAspect(serviceMetrics, 1, 10);
+        method = List.class.getMethod("size");
+        MethodSignature signature = mock(MethodSignature.class);
+        lenient().when(signature.getMethod()).thenReturn(method);
+        joinPoint = mock(ProceedingJoinPoint.class);
+        lenient().when(joinPoint.getSignature()).thenReturn(signature);
+    }
+
+    @Test
+    void shouldRecordSuccessfulCalls() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertEquals("result", aspect.instrument(joinPoint));
+        aspect.instrument(joinPoint);
+
+        OperationMetrics metrics = serviceMetrics.forMethod(method);
+        assertEquals(2, metrics.getCalls());
+        assertEquals(0, metrics.getFailures());
+        assertEquals("List.size", metrics.getName());
+    }
+
+    @Test
+    void shouldRecordFailuresAndRethrow() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("boom"));
+
+        assertThrows(IllegalArgumentException.class, () -> aspect.instrument(joinPoint));
+
+        assertEquals(1, serviceMetrics.getTotalCalls());
+        assertEquals(1, serviceMetrics.getTotalFailures());
+    }
+
+    @Test
+    void shouldResetAllMethods() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(null);
+        aspect.instrument(joinPoint);
+
+        serviceMetrics.reset();
+
+        assertEquals(0, serviceMetrics.getTotalCalls());
+    }
+}
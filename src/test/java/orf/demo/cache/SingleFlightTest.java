@@ -0,0 +1,94 @@
+package orf.demo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+    @Test
+    void shouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<Integer> leader = executor.submit(() -> flight.execute("word", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return 42;
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(executor.submit(() -> flight.execute("word", () -> {
+                    executions.incrementAndGet();
+                    return -1;
+                })));
+            }
+            waitUntilCoalesced(callers - 1);
+            release.countDown();
+
+            assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> follower : followers) {
+                assertEquals(42, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(1, flight.getExecutions());
+            assertEquals(callers - 1, flight.getCoalesced());
+            assertEquals(0, flight.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPropagateFailureAndRetryNextCall() {
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> flight.execute("word", () -> { throw failure; })));
+        assertEquals(7, flight.execute("word", () -> 7));
+        assertEquals(2, flight.getExecutions());
+    }
+
+    @Test
+    void shouldStartNewComputationAfterForget() {
+        int nested = flight.execute("word", () -> {
+            flight.forget("word");
+            return flight.execute("word", () -> 2) + 1;
+        });
+
+        assertEquals(3, nested);
+        assertEquals(0, flight.getCoalesced());
+    }
+
+    private void waitUntilCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.getCoalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, flight.getCoalesced());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
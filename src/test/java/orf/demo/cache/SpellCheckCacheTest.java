@@ -0,0 +1,109 @@
+package orf.demo.cache;
+
+import orf.demo.dto.SpellCheckCategoryView;
+import orf.demo.model.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpellCheckCacheTest {
+
+    private SpellCheckCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SpellCheckCache(1000, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        // Given
+        cache.put("news", List.of(view()));
+
+        // When
+        cache.get("news");
+        cache.get("news");
+        cache.get("sport");
+
+        // Then
+        assertEquals(2L, cache.getStats().get("hits"));
+        assertEquals(1L, cache.getStats().get("misses"));
+    }
+
+    @Test
+    void shouldStoreImmutableCopy() {
+        List<SpellCheckCategoryView> spellChecks = new ArrayList<>();
+        spellChecks.add(view());
+
+        cache.put("news", spellChecks);
+        spellChecks.add(view());
+
+        assertEquals(1, cache.get("news").size());
+        assertThrows(UnsupportedOperationException.class, () -> cache.get("news").clear());
+    }
+
+    @Test
+    void shouldInvalidateOnlyAffectedCategories() {
+        // Given
+        Category news = new Category();
+        news.setName("news");
+        cache.put("news", List.of());
+        cache.put("sport", List.of());
+
+        // When
+        cache.invalidateCategories(List.of(news));
+
+        // Then
+        assertNull(cache.get("news"));
+        assertNotNull(cache.get("sport"));
+    }
+
+    @Test
+    void shouldClearAllEntries() {
+        cache.put("news", List.of());
+        cache.put("sport", List.of());
+
+        cache.clear();
+
+        assertNull(cache.get("news"));
+        assertNull(cache.get("sport"));
+    }
+
+    @Test
+    void shouldLoadOnMissAndServeFromCacheAfterwards() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad("news", () -> {
+            loads.incrementAndGet();
+            return List.of(view());
+        });
+        List<SpellCheckCategoryView> second = cache.getOrLoad("news", () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    void shouldNotCacheLoadInvalidatedWhileRunning() {
+        List<SpellCheckCategoryView> loaded = cache.getOrLoad("news", () -> {
+            cache.invalidate("news");
+            return List.of(view());
+        });
+
+        assertEquals(1, loaded.size());
+        assertNull(cache.get("news"));
+    }
+
+    private static SpellCheckCategoryView view() {
+        return new SpellCheckCategoryView(1L, "SpellCheck", "Correct", null);
+    }
+}
@@ -0,0 +1,110 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingSpellCheckerTest {
+
+    private AtomicInteger delegateCalls;
+    private CachingSpellChecker spellChecker;
+
+    @BeforeEach
+    void setUp() {
+        delegateCalls = new AtomicInteger();
+        SpellChecker delegate = word -> {
+            delegateCalls.incrementAndGet();
+            return word.length() > 3 ? "Correct" : "Incorrect";
+        };
+        spellChecker = new CachingSpellChecker("test", delegate, 64);
+    }
+
+    @Test
+    void shouldCallDelegateOncePerNormalizedWord() {
+        assertEquals("Correct", spellChecker.checkSpelling("hello"));
+        assertEquals("Correct", spellChecker.checkSpelling("HELLO"));
+        assertEquals("Correct", spellChecker.checkSpelling("Hello"));
+        assertEquals("Incorrect", spellChecker.checkSpelling("hi"));
+
+        assertEquals(2, delegateCalls.get());
+        assertEquals(2L, spellChecker.getStats().get("hits"));
+        assertEquals(2L, spellChecker.getStats().get("misses"));
+    }
+
+    @Test
+    void shouldStayBoundedAndCorrectUnderChurn() {
+        for (int i = 0; i < 10_000; i++) {
+            String word = "w" + i;
+            assertEquals(word.length() > 3 ? "Correct" : "Incorrect", spellChecker.checkSpelling(word));
+        }
+        assertEquals(64, spellChecker.getStats().get("capacity"));
+    }
+
+    @Test
+    void shouldMemoizeSuggestionsAndServeSmallerLimits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> first = spellChecker.suggest("helo", 3, (word, limit) -> {
+            loads.incrementAndGet();
+            return List.of("help", "hello", "hell");
+        });
+        List<String> second = spellChecker.suggest("HELO", 2, (word, limit) -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(List.of("help", "hello", "hell"), first);
+        assertEquals(List.of("help", "hello"), second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldPassNullToDelegate() {
+        SpellChecker nullSafe = new CachingSpellChecker("simple", new SimpleSpellChecker(), 16);
+
+        assertEquals("Incorrect", nullSafe.checkSpelling(null));
+    }
+
+    @Test
+    void shouldKeepPinnedViewOnItsGenerationAfterClear() {
+        DawgDictionary first = DawgDictionary.build(WordList.of(List.of("hello")));
+        DawgDictionary second = DawgDictionary.build(WordList.of(List.of("hello", "world")));
+        VocabularyHolder vocabulary = VocabularyHolder.of(first, SymSpellSuggester.build(first, 2, 7));
+        CachingSpellChecker cache = new CachingSpellChecker("dictionary", new DictionarySpellChecker(vocabulary), 64);
+        assertSame(spellChecker, spellChecker.pin());
+
+        SpellChecker pinned = cache.pin();
+        assertEquals("Incorrect", pinned.checkSpelling("world"));
+        vocabulary.publish(new Vocabulary(2, "test", second, SymSpellSuggester.build(second, 2, 7)));
+        cache.clear();
+
+        assertEquals("Correct", cache.checkSpelling("world"));
+        assertEquals("Incorrect", pinned.checkSpelling("world"));
+        assertEquals("Correct", cache.checkSpelling("world"));
+    }
+
+    @Test
+    void shouldNotLetStalePinnedViewEvictCurrentEntries() {
+        DawgDictionary dictionary = DawgDictionary.build(WordList.of(List.of("hello", "world")));
+        VocabularyHolder vocabulary = VocabularyHolder.of(dictionary, SymSpellSuggester.build(dictionary, 2, 7));
+        CachingSpellChecker cache = new CachingSpellChecker("dictionary", new DictionarySpellChecker(vocabulary), 2);
+        SpellChecker stale = cache.pin();
+        vocabulary.publish(new Vocabulary(2, "test", dictionary, SymSpellSuggester.build(dictionary, 2, 7)));
+        cache.clear();
+        cache.checkSpelling("hello");
+        cache.checkSpelling("world");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Incorrect", stale.checkSpelling("word" + i));
+        }
+        long hits = (Long) cache.getStats().get("hits");
+
+        cache.checkSpelling("hello");
+        cache.checkSpelling("world");
+        assertEquals(hits + 2, cache.getStats().get("hits"));
+    }
+}
@@ -0,0 +1,133 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DawgDictionaryTest {
+
+    private DawgDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = DawgDictionary.build(WordList.of(Arrays.asList(
+                "hello", "help", "world", "words", "word", "привет", "мир")));
+    }
+
+    @Test
+    void shouldFindKnownWordsIgnoringCase() {
+        assertTrue(dictionary.contains("hello"));
+        assertTrue(dictionary.contains("WORD"));
+        assertTrue(dictionary.contains("Привет"));
+    }
+
+    @Test
+    void shouldRejectUnknownWordsAndPrefixes() {
+        assertFalse(dictionary.contains("hel"));
+        assertFalse(dictionary.contains("helps"));
+        assertFalse(dictionary.contains(""));
+        assertFalse(dictionary.contains("мира"));
+    }
+
+    @Test
+    void shouldMapWordsToSortedOrdinalsAndBack() {
+        List<String> sorted = new ArrayList<>(List.of("hello", "help", "world", "words", "word", "привет", "мир"));
+        sorted.sort(null);
+
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, dictionary.indexOf(sorted.get(i)));
+            assertEquals(sorted.get(i), dictionary.wordAt(i));
+        }
+    }
+
+    @Test
+    void shouldShareSuffixesBetweenWords() {
+        // Given
+        WordList words = WordList.of(Arrays.asList("walking", "talking", "walked", "talked", "walks", "talks"));
+
+        // When
+        DawgDictionary dawg = DawgDictionary.build(words);
+
+        // Then
+        assertEquals(6, dawg.size());
+        assertTrue(dawg.nodeCount() < 12);
+    }
+
+    @Test
+    void shouldReadFrequenciesFromWordList() throws Exception {
+        // Given
+        String content = "# comment\nthe\t100\nHello 5\nhello\t2\n\nworld\n";
+
+        // When
+        DawgDictionary dawg = DawgDictionary.build(
+                WordList.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+
+        // Then
+        assertEquals(3, dawg.size());
+        assertEquals(7, dawg.frequency(dawg.indexOf("hello")));
+        assertEquals(100, dawg.frequency(dawg.indexOf("the")));
+        assertEquals(1, dawg.frequency(dawg.indexOf("world")));
+    }
+
+    @Test
+    void shouldHandleEmptyDictionary() {
+        DawgDictionary empty = DawgDictionary.build(WordList.of(List.of()));
+
+        assertEquals(0, empty.size());
+        assertFalse(empty.contains("hello"));
+    }
+
+    @Test
+    void shouldServeLookupsFromMappedSnapshot(@TempDir Path directory) throws IOException {
+        // Given
+        Path snapshot = directory.resolve("words.dawg");
+        DawgDictionary source = DawgDictionary.build(WordList.read(new ByteArrayInputStream(
+                "hello 5\nhelp 3\nworld 9\nпривет 7\nмир 1\n".getBytes(StandardCharsets.UTF_8))));
+
+        // When
+        source.writeSnapshot(snapshot, 42);
+        DawgDictionary mapped = DawgDictionary.map(snapshot);
+
+        // Then
+        assertTrue(mapped.isMapped());
+        assertFalse(source.isMapped());
+        assertEquals(42, mapped.getSourceStamp());
+        assertEquals(source.size(), mapped.size());
+        assertEquals(source.nodeCount(), mapped.nodeCount());
+        assertEquals(source.edgeCount(), mapped.edgeCount());
+        for (int i = 0; i < source.size(); i++) {
+            assertEquals(source.wordAt(i), mapped.wordAt(i));
+            assertEquals(source.frequency(i), mapped.frequency(i));
+            assertEquals(i, mapped.indexOf(source.wordAt(i).toUpperCase()));
+        }
+        assertFalse(mapped.contains("hel"));
+        assertEquals(mapped.indexOf("привет"), mapped.indexOf("xПРИВЕТx".toCharArray(), 1, 6));
+    }
+
+    @Test
+    void shouldRoundTripEmptyDictionaryAndRejectForeignFiles(@TempDir Path directory) throws IOException {
+        Path snapshot = directory.resolve("empty.dawg");
+        DawgDictionary.build(WordList.of(List.of())).writeSnapshot(snapshot, 0);
+
+        DawgDictionary empty = DawgDictionary.map(snapshot);
+
+        assertEquals(0, empty.size());
+        assertFalse(empty.contains("hello"));
+        Path text = Files.writeString(directory.resolve("words.txt"), "hello\nworld\n");
+        assertThrows(IOException.class, () -> DawgDictionary.map(text));
+        byte[] truncated = Arrays.copyOf(Files.readAllBytes(snapshot), 64);
+        Path broken = Files.write(directory.resolve("broken.dawg"), truncated);
+        assertThrows(IOException.class, () -> DawgDictionary.map(broken));
+    }
+}
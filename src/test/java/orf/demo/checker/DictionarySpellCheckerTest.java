@@ -0,0 +1,51 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DictionarySpellCheckerTest {
+
+    private DictionarySpellChecker spellChecker;
+
+    @BeforeEach
+    void setUp() {
+        spellChecker = new DictionarySpellChecker(
+                DawgDictionary.build(WordList.of(Arrays.asList("hello", "world"))));
+    }
+
+    @Test
+    void shouldReturnCorrectForDictionaryWord() {
+        assertEquals("Correct", spellChecker.checkSpelling("Hello"));
+    }
+
+    @Test
+    void shouldReturnIncorrectForUnknownWord() {
+        assertEquals("Incorrect", spellChecker.checkSpelling("helo"));
+    }
+
+    @Test
+    void shouldReturnIncorrectForNullAndEmptyText() {
+        assertEquals("Incorrect", spellChecker.checkSpelling(null));
+        assertEquals("Incorrect", spellChecker.checkSpelling(""));
+    }
+
+    @Test
+    void shouldSeePublishedVocabularyWhilePinnedCheckerKeepsItsVersion() {
+        DawgDictionary first = DawgDictionary.build(WordList.of(Arrays.asList("hello")));
+        DawgDictionary second = DawgDictionary.build(WordList.of(Arrays.asList("hello", "world")));
+        VocabularyHolder vocabulary = VocabularyHolder.of(first, SymSpellSuggester.build(first, 2, 7));
+        DictionarySpellChecker live = new DictionarySpellChecker(vocabulary);
+        SpellChecker pinned = live.pin();
+
+        vocabulary.publish(new Vocabulary(2, "test", second, SymSpellSuggester.build(second, 2, 7)));
+
+        assertEquals("Correct", live.checkSpelling("world"));
+        assertEquals("Incorrect", pinned.checkSpelling("world"));
+        assertSame(pinned, pinned.pin());
+    }
+}
@@ -0,0 +1,49 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentCheckerTest {
+
+    private final DocumentChecker checker = new DocumentChecker(new DictionarySpellChecker(DawgDictionary.build(
+            WordList.of(List.of("hello", "world", "кто", "то", "молоко", "see")))));
+
+    @Test
+    void shouldReportUnknownWordsWithOffsets() {
+        List<String> errors = new ArrayList<>();
+
+        int words = checker.check("Hello wrold, HELLO world!".toCharArray(), 0, 25, collect(errors));
+
+        assertEquals(4, words);
+        assertEquals(List.of("6:wrold"), errors);
+    }
+
+    @Test
+    void shouldSkipNumbersAndUrlsAndStripMarks() {
+        List<String> errors = new ArrayList<>();
+        String text = "See https://exmple.com 42 моло́ко";
+
+        int words = checker.check(text.toCharArray(), 0, text.length(), collect(errors));
+
+        assertEquals(2, words);
+        assertEquals(List.of(), errors);
+    }
+
+    @Test
+    void shouldCheckHyphenatedPartsSeparately() {
+        List<String> errors = new ArrayList<>();
+        String text = "Кто-то кто-нибудь";
+
+        checker.check(text.toCharArray(), 0, text.length(), collect(errors));
+
+        assertEquals(List.of("11:нибудь"), errors);
+    }
+
+    private static DocumentChecker.ErrorSink collect(List<String> errors) {
+        return (text, offset, length) -> errors.add(offset + ":" + new String(text, offset, length));
+    }
+}
@@ -0,0 +1,90 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SpellCheckerRegistryTest {
+
+    private final SpellChecker english = new DictionarySpellChecker(
+            DawgDictionary.build(WordList.of(List.of("hello", "world"))));
+    private final SpellChecker russian = new DictionarySpellChecker(
+            DawgDictionary.build(WordList.of(List.of("привет", "мир"))));
+    private final SpellChecker fallback = new SimpleSpellChecker();
+
+    @Test
+    void shouldDetectLanguagePerTextWhenNotSpecified() {
+        SpellCheckerRegistry registry = new SpellCheckerRegistry(fallback,
+                Map.of("en", english, "ru", russian), Map.of());
+        SpellCheckerRegistry.Route route = registry.route(null, null);
+
+        assertSame(english, route.checkerFor("Hello"));
+        assertSame(russian, route.checkerFor("«Привет»"));
+        assertSame(fallback, route.checkerFor("123"));
+        assertSame(fallback, route.checkerFor("γεια"));
+        assertEquals("Correct", route.checkSpelling("мир"));
+        assertEquals("Incorrect", route.checkSpelling("world-"));
+        assertEquals("Correct", route.checkSpelling("world"));
+    }
+
+    @Test
+    void shouldPreferCategoryThenExplicitLanguage() {
+        SpellChecker strict = mock(SpellChecker.class);
+        SpellCheckerRegistry registry = new SpellCheckerRegistry(fallback,
+                Map.of("en", english, "ru", russian), Map.of("strict", strict));
+
+        assertSame(strict, registry.route("en", "strict").checkerFor("привет"));
+        assertSame(russian, registry.route("RU", "unknown-category").checkerFor("hello"));
+        assertThrows(IllegalArgumentException.class, () -> registry.route("de", null));
+    }
+
+    @Test
+    void shouldUseDefaultWithoutLanguageRoutes() {
+        SpellCheckerRegistry registry = SpellCheckerRegistry.of(fallback);
+
+        assertSame(fallback, registry.defaultRoute().checkerFor("привет"));
+        assertSame(fallback, registry.defaultRoute().checkerFor(null));
+    }
+
+    @Test
+    void shouldShortCircuitChainOnFirstAcceptingStage() {
+        SpellChecker remote = mock(SpellChecker.class);
+        when(remote.checkSpelling(anyString())).thenReturn("Correct");
+        when(remote.isCorrect(any(char[].class), anyInt(), anyInt())).thenReturn(false);
+        ChainSpellChecker chain = new ChainSpellChecker("strict", List.of(english, remote));
+
+        assertEquals("Correct", chain.checkSpelling("hello"));
+        verifyNoInteractions(remote);
+
+        assertEquals("Correct", chain.checkSpelling("helo"));
+        verify(remote).checkSpelling("helo");
+
+        char[] text = "hello helo".toCharArray();
+        assertTrue(chain.isCorrect(text, 0, 5));
+        assertFalse(chain.isCorrect(text, 6, 4));
+        verify(remote, times(1)).isCorrect(text, 6, 4);
+        assertThrows(IllegalArgumentException.class, () -> new ChainSpellChecker("empty", List.of()));
+    }
+
+    @Test
+    void shouldRouteDocumentTokensByScript() {
+        SpellCheckerRegistry registry = new SpellCheckerRegistry(fallback,
+                Map.of("en", english, "ru", russian), Map.of());
+        DocumentChecker checker = new DocumentChecker(registry.route(null, null));
+        StringBuilder errors = new StringBuilder();
+        String text = "Hello мир, wrold привт";
+
+        int words = checker.check(text.toCharArray(), 0, text.length(),
+                (chars, offset, length) -> errors.append(new String(chars, offset, length)).append(' '));
+
+        assertEquals(4, words);
+        assertEquals("wrold привт ", errors.toString());
+    }
+}
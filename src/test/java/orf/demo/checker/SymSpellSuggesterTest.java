@@ -0,0 +1,66 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymSpellSuggesterTest {
+
+    private SymSpellSuggester suggester;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String words = "hello 500\nhelp 900\nhell 100\nworld 800\nword 1000\nwords 300\nwork 700\n"
+                + "spelling 50\nchecker 40\nпривет 10\n";
+        DawgDictionary dictionary = DawgDictionary.build(
+                WordList.read(new ByteArrayInputStream(words.getBytes(StandardCharsets.UTF_8))));
+        suggester = SymSpellSuggester.build(dictionary, 2, 7);
+    }
+
+    @Test
+    void shouldSuggestClosestWordFirst() {
+        List<String> result = suggester.suggest("helo", 3);
+
+        assertEquals(List.of("help", "hello", "hell"), result);
+    }
+
+    @Test
+    void shouldRankEqualDistanceByFrequency() {
+        List<String> result = suggester.suggest("wor", 10);
+
+        assertEquals("word", result.get(0));
+        assertTrue(result.contains("work"));
+        assertTrue(result.contains("world"));
+    }
+
+    @Test
+    void shouldHandleTranspositionsAndLongWords() {
+        assertEquals("spelling", suggester.suggest("sepllign", 1).get(0));
+        assertEquals("spelling", suggester.suggest("speling", 1).get(0));
+        assertEquals("checker", suggester.suggest("chekcer", 1).get(0));
+        assertEquals("привет", suggester.suggest("Превет", 1).get(0));
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenNothingIsClose() {
+        assertTrue(suggester.suggest("zzzzzzzz", 5).isEmpty());
+        assertTrue(suggester.suggest(null, 5).isEmpty());
+        assertTrue(suggester.suggest("helo", 0).isEmpty());
+    }
+
+    @Test
+    void shouldNotAllocateBeyondDictionarySizeForLargeLimit() {
+        assertEquals(List.of("help", "hello", "hell"), suggester.suggest("helo", Integer.MAX_VALUE).subList(0, 3));
+    }
+
+    @Test
+    void shouldRespectRequestedDistance() {
+        assertTrue(suggester.suggest("wrdx", 1, 5).isEmpty());
+        assertEquals("word", suggester.suggest("wrdx", 2, 5).get(0));
+    }
+}
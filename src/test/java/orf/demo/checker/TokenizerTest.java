@@ -0,0 +1,78 @@
+package orf.demo.checker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenizerTest {
+
+    @Test
+    void shouldSplitWordsOnWhitespaceAndPunctuation() {
+        assertEquals(List.of("WORD:Hello", "WORD:world", "WORD:How", "WORD:are", "WORD:you"),
+                tokens("Hello, world! How are you?"));
+    }
+
+    @Test
+    void shouldHandleCyrillicWithHyphensApostrophesAndMarks() {
+        assertEquals(List.of("WORD:Кто-то", "WORD:сказал", "WORD:моло́ко", "WORD:don't", "WORD:rock’n’roll"),
+                tokens("«Кто-то» сказал: моло́ко — don't rock’n’roll."));
+    }
+
+    @Test
+    void shouldClassifyNumbersAndAlphanumerics() {
+        assertEquals(List.of("NUMBER:3.14", "WORD:and", "NUMBER:1,000", "NUMBER:mp3", "NUMBER:2-й", "NUMBER:42"),
+                tokens("3.14 and 1,000 mp3 2-й 42."));
+    }
+
+    @Test
+    void shouldKeepUrlsAndEmailsWholeWithoutTrailingPunctuation() {
+        assertEquals(List.of("WORD:See", "URL:https://example.com/a?b=c", "WORD:or", "URL:www.test.org",
+                        "WORD:mail", "URL:john.doe@example.com"),
+                tokens("See https://example.com/a?b=c, or (www.test.org). mail john.doe@example.com!"));
+    }
+
+    @Test
+    void shouldReportOffsetsIntoSourceArray() {
+        char[] text = "xx Привет, мир".toCharArray();
+        Tokenizer tokenizer = new Tokenizer(text, 2, text.length - 2);
+
+        assertTrue(tokenizer.next());
+        assertEquals(3, tokenizer.start());
+        assertEquals(6, tokenizer.length());
+        assertTrue(tokenizer.next());
+        assertEquals(11, tokenizer.start());
+        assertEquals(3, tokenizer.length());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    void shouldStripMarksIntoBuffer() {
+        Tokenizer tokenizer = new Tokenizer("моло́ко".toCharArray());
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.hasMarks());
+
+        char[] buffer = new char[16];
+        int length = tokenizer.copyWithoutMarks(buffer);
+
+        assertEquals("молоко", new String(buffer, 0, length));
+        assertEquals(-7, tokenizer.copyWithoutMarks(new char[2]));
+    }
+
+    @Test
+    void shouldReturnNoTokensForPunctuationOnly() {
+        assertEquals(List.of(), tokens(" ... -- !? "));
+        assertEquals(List.of(), tokens(""));
+    }
+
+    private static List<String> tokens(String text) {
+        Tokenizer tokenizer = new Tokenizer(text.toCharArray());
+        List<String> tokens = new ArrayList<>();
+        while (tokenizer.next()) {
+            tokens.add(tokenizer.type() + ":" + new String(tokenizer.text(), tokenizer.start(), tokenizer.length()));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,100 @@
+package orf.demo.controller;
+
+import orf.demo.model.Category;
+import orf.demo.model.SpellCheckCategory;
+import orf.demo.repository.CategoryRepository;
+import orf.demo.repository.SpellCheckCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Ответы строятся из плоских DTO: сущности с ленивой обратной связью вне сессии
+ * сериализовать нельзя, поэтому эти запросы упали бы при обходе графа.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SpellCheckCategoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SpellCheckCategoryRepository spellCheckCategoryRepository;
+
+    private Long spellCheckId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        spellCheckCategoryRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        Category category = new Category();
+        category.setName("grammar");
+        category = categoryRepository.save(category);
+        categoryId = category.getId();
+        SpellCheckCategory spellCheck = new SpellCheckCategory();
+        spellCheck.setName("SpellCheck_1");
+        spellCheck.setStatus("Correct");
+        spellCheck.getCategories().add(category);
+        spellCheckId = spellCheckCategoryRepository.save(spellCheck).getId();
+    }
+
+    @Test
+    void shouldListSpellChecksWithFlatCategories() throws Exception {
+        mockMvc.perform(get("/api/spell-check-categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("SpellCheck_1"))
+                .andExpect(jsonPath("$[0].categories[0].name").value("grammar"))
+                .andExpect(jsonPath("$[0].categories[0].spellChecks").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnCreatedSpellCheck() throws Exception {
+        mockMvc.perform(post("/api/spell-check-categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"texts\":[\"hello\",\"hi\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.status").value("Error"))
+                .andExpect(jsonPath("$.error").value("hi"));
+
+        mockMvc.perform(get("/api/spell-check-categories/misspellings/top"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].word").value("hi"))
+                .andExpect(jsonPath("$[0].count").value(1));
+    }
+
+    @Test
+    void shouldReturnUpdatedSpellCheckWithCategories() throws Exception {
+        mockMvc.perform(put("/api/spell-check-categories/" + spellCheckId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"SpellCheck_1\",\"status\":\"Error\",\"error\":\"helo\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Error"))
+                .andExpect(jsonPath("$.categories[0].id").value(categoryId));
+    }
+
+    @Test
+    void shouldReturnCategoryWithoutBackReference() throws Exception {
+        mockMvc.perform(get("/api/categories/" + categoryId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("grammar"))
+                .andExpect(jsonPath("$.spellChecks").doesNotExist());
+    }
+}
@@ -0,0 +1,32 @@
+package orf.demo.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpellCheckCategoryViewSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteFlatObjectWithNestedCategories() throws Exception {
+        SpellCheckCategoryView view = new SpellCheckCategoryView(7L, "SpellCheck_7", "Error", "helo");
+        view.getCategories().add(new CategoryView(1L, "grammar", "Active"));
+        view.getCategories().add(new CategoryView(2L, "style", null));
+
+        assertEquals("{\"id\":7,\"name\":\"SpellCheck_7\",\"status\":\"Error\",\"error\":\"helo\",\"categories\":["
+                        + "{\"id\":1,\"name\":\"grammar\",\"status\":\"Active\"},{\"id\":2,\"name\":\"style\"}]}",
+                objectMapper.writeValueAsString(view));
+    }
+
+    @Test
+    void shouldOmitNullFieldsAndKeepEmptyCategories() throws Exception {
+        SpellCheckCategoryView view = new SpellCheckCategoryView(3L, "SpellCheck_3", "Correct", null);
+
+        assertEquals("[{\"id\":3,\"name\":\"SpellCheck_3\",\"status\":\"Correct\",\"categories\":[]}]",
+                objectMapper.writeValueAsString(List.of(view)));
+    }
+}
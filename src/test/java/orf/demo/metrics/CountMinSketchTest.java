@@ -0,0 +1,73 @@
+package orf.demo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimateNeverUndercountsAndStaysWithinErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        long total = 0;
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(CountMinSketch.hash("word" + i), i % 10 + 1);
+            total += i % 10 + 1;
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            long estimate = sketch.estimate(CountMinSketch.hash("word" + i));
+            assertTrue(estimate >= i % 10 + 1, "undercount for word" + i);
+            assertTrue(estimate - (i % 10 + 1) <= total * Math.E / 256 * 2, "estimate too far for word" + i);
+        }
+    }
+
+    @Test
+    void mergeMatchesSketchOfCombinedStream() {
+        CountMinSketch left = new CountMinSketch(3, 64);
+        CountMinSketch right = new CountMinSketch(3, 64);
+        CountMinSketch combined = new CountMinSketch(3, 64);
+        for (String word : new String[]{"teh", "wrold", "teh", "recieve"}) {
+            left.add(CountMinSketch.hash(word), 1);
+            combined.add(CountMinSketch.hash(word), 1);
+        }
+        for (String word : new String[]{"teh", "adress"}) {
+            right.add(CountMinSketch.hash(word), 1);
+            combined.add(CountMinSketch.hash(word), 1);
+        }
+
+        left.merge(right);
+
+        for (String word : new String[]{"teh", "wrold", "recieve", "adress", "missing"}) {
+            assertEquals(combined.estimate(CountMinSketch.hash(word)), left.estimate(CountMinSketch.hash(word)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new CountMinSketch(3, 128)));
+    }
+
+    @Test
+    void writeAndReadRoundTrip() throws IOException {
+        CountMinSketch sketch = new CountMinSketch(2, 32);
+        sketch.add(CountMinSketch.hash("teh", "news"), 5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sketch.write(new DataOutputStream(bytes));
+
+        CountMinSketch read = CountMinSketch.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(2, read.getDepth());
+        assertEquals(32, read.getWidth());
+        assertEquals(5, read.estimate(CountMinSketch.hash("teh", "news")));
+    }
+
+    @Test
+    void rejectsWidthThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 1000));
+    }
+}
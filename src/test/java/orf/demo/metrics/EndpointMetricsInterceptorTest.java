@@ -0,0 +1,56 @@
+package orf.demo.metrics;
+
+import orf.demo.service.Interface.InterfaceSpellCheckJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SSE-запрос диспетчеризуется дважды, а замер должен начаться и закончиться ровно один раз.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointMetricsInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EndpointMetrics endpointMetrics;
+
+    @Autowired
+    private InterfaceSpellCheckJobService jobService;
+
+    @Test
+    void asyncRequestIsMeasuredOnceAndLeavesNothingInFlight() throws Exception {
+        String id = jobService.submit(List.of("hello"), 0, false).getId();
+        for (int i = 0; i < 500 && !jobService.getJob(id).getState().isTerminal(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(jobService.getJob(id).getState().isTerminal());
+        OperationMetrics events = endpointMetrics.forEndpoint("GET", "/spell-check-jobs/{id}/events");
+        long callsBefore = events.getCalls();
+
+        MvcResult started = mockMvc.perform(get("/spell-check-jobs/" + id + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, events.getInFlight());
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+
+        assertEquals(0, events.getInFlight());
+        assertEquals(callsBefore + 1, events.getCalls());
+    }
+}
@@ -0,0 +1,43 @@
+package orf.demo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketUpperBoundCoversValueWithinRelativeError() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 1000, 123_456, 987_654_321L}) {
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.bucket(value));
+            assertTrue(upper >= value, "upper bound below value " + value);
+            assertTrue(upper - value <= Math.max(1, value / 16), "bucket too wide for " + value);
+        }
+    }
+
+    @Test
+    void percentilesFollowRecordedDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_500_000L, snapshot.getSum());
+        assertEquals(500_000, snapshot.percentile(0.5), 500_000 / 16.0);
+        assertEquals(990_000, snapshot.percentile(0.99), 990_000 / 16.0);
+    }
+
+    @Test
+    void resetClearsCounts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().percentile(0.99));
+    }
+}
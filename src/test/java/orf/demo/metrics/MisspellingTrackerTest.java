@@ -0,0 +1,119 @@
+package orf.demo.metrics;
+
+import orf.demo.dto.MisspellingCount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MisspellingTrackerTest {
+
+    @Test
+    void mergesStripesFromManyThreadsIntoGlobalAndCategoryTop() throws InterruptedException {
+        MisspellingTracker tracker = tracker("");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 100; i++) {
+                    tracker.record("Teh", "news");
+                    tracker.record("wrold", "sport");
+                    if (i % 2 == 0) {
+                        tracker.record("recieve", null);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        tracker.refresh();
+
+        List<MisspellingCount> global = tracker.top(null, 3);
+        assertEquals(List.of("teh", "wrold", "recieve"), global.stream().map(MisspellingCount::getWord).toList());
+        assertEquals(800, global.get(0).getCount());
+        assertEquals(400, global.get(2).getCount());
+        assertEquals(List.of("teh"), tracker.top("news", 10).stream().map(MisspellingCount::getWord).toList());
+        assertEquals(800, tracker.top("sport", 1).get(0).getCount());
+        assertTrue(tracker.top("unknown", 5).isEmpty());
+        assertEquals(2000L, tracker.getStats().get("recorded"));
+    }
+
+    @Test
+    void keepsHeavyHittersAmongManyRareWords() {
+        MisspellingTracker tracker = tracker("");
+        for (int i = 0; i < 5000; i++) {
+            tracker.record("rare" + i, null);
+            if (i % 10 == 0) {
+                tracker.record("teh", null);
+            }
+        }
+
+        tracker.refresh();
+
+        MisspellingCount top = tracker.top(null, 1).get(0);
+        assertEquals("teh", top.getWord());
+        assertTrue(top.getCount() >= 500);
+    }
+
+    @Test
+    void restoresCountsFromSnapshot(@TempDir Path dir) throws Exception {
+        String file = dir.resolve("misspellings.bin").toString();
+        MisspellingTracker before = tracker(file);
+        before.start();
+        for (int i = 0; i < 3; i++) {
+            before.record("teh", "news");
+        }
+        before.record("wrold", null);
+        before.shutdown();
+
+        MisspellingTracker after = tracker(file);
+        after.start();
+        after.record("teh", "news");
+        after.refresh();
+
+        assertEquals(4, after.top(null, 1).get(0).getCount());
+        assertEquals(4, after.top("news", 1).get(0).getCount());
+        assertEquals("wrold", after.top(null, 2).get(1).getWord());
+        after.shutdown();
+    }
+
+    @Test
+    void recordsBatchOnceAndCapsCategoriesGlobally() {
+        MisspellingTracker tracker = new MisspellingTracker(true, 4, 1024, 10, 2, Duration.ofMinutes(1), "",
+                Duration.ofMinutes(1));
+        tracker.recordAll(List.of("Teh", "teh", "wrold", "teh"), "news");
+        tracker.recordAll(List.of("recieve"), "sport");
+        tracker.record("adress", "science");
+
+        tracker.refresh();
+
+        assertEquals(List.of("teh", "wrold"), tracker.top("news", 10).stream().map(MisspellingCount::getWord).toList());
+        assertEquals(3, tracker.top("news", 1).get(0).getCount());
+        assertEquals(1, tracker.top("sport", 10).size());
+        assertTrue(tracker.top("science", 10).isEmpty());
+        assertEquals(4, tracker.top(null, 10).size());
+        assertEquals(2, tracker.getStats().get("categories"));
+        assertEquals(6L, tracker.getStats().get("recorded"));
+    }
+
+    @Test
+    void rejectsLimitAboveTopK() {
+        MisspellingTracker tracker = tracker("");
+
+        assertThrows(IllegalArgumentException.class, () -> tracker.top(null, 11));
+        assertThrows(IllegalArgumentException.class, () -> tracker.top(null, 0));
+    }
+
+    private static MisspellingTracker tracker(String snapshot) {
+        return new MisspellingTracker(true, 4, 1024, 10, 16, Duration.ofMinutes(1), snapshot, Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,32 @@
+package orf.demo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrometheusFormatterTest {
+
+    @Test
+    void formatsLatencyCallsErrorsAndInFlight() {
+        OperationMetrics method = new OperationMetrics("Service.check");
+        method.stop(method.start(), (Throwable) null);
+        method.stop(method.start(), new IllegalStateException());
+        OperationMetrics endpoint = new OperationMetrics("GET /spell-check/{word}");
+        endpoint.start();
+
+        String text = PrometheusFormatter.format(List.of(method), List.of(endpoint));
+
+        assertTrue(text.contains("# TYPE spellcheck_service_latency_seconds summary"));
+        assertTrue(text.contains("spellcheck_service_latency_seconds{method=\"Service.check\",quantile=\"0.99\"}"));
+        assertTrue(text.contains("spellcheck_service_latency_seconds_count{method=\"Service.check\"} 2"));
+        assertTrue(text.contains("spellcheck_service_calls_total{method=\"Service.check\"} 2"));
+        assertTrue(text.contains(
+                "spellcheck_service_errors_total{method=\"Service.check\",exception=\"IllegalStateException\"} 1"));
+        assertTrue(text.contains("spellcheck_http_in_flight{endpoint=\"GET /spell-check/{word}\"} 1"));
+        // скорость считает rate() в Prometheus по calls_total, чтение метрик ничего не меняет
+        assertFalse(text.contains("throughput"));
+    }
+}
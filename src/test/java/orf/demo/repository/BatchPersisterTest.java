@@ -0,0 +1,98 @@
+package orf.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import orf.demo.model.Category;
+import orf.demo.model.SpellCheck;
+import orf.demo.model.SpellCheckCategory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spellchecker.persistence.flush-interval=500"
+})
+@Import(BatchPersister.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchPersisterTest {
+
+    @Autowired
+    private BatchPersister batchPersister;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SpellCheckCategoryRepository spellCheckCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        spellCheckCategoryRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldInsertSpellChecksInJdbcBatches() {
+        List<SpellCheck> spellChecks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            SpellCheck spellCheck = new SpellCheck();
+            spellCheck.setWord("word" + i);
+            spellCheck.setStatus("Correct");
+            spellChecks.add(spellCheck);
+        }
+
+        assertEquals(2000, batchPersister.persistAll(spellChecks));
+
+        assertTrue(spellChecks.stream().allMatch(spellCheck -> spellCheck.getId() != null));
+        assertEquals(2000, statistics.getEntityInsertCount());
+        // 2000 строк при batch_size=50: 40 батчей вместо 2000 отдельных INSERT
+        assertTrue(statistics.getPrepareStatementCount() < 200,
+                "Too many statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldPersistJoinRowsForCategories() {
+        Category category = new Category();
+        category.setName("batch");
+        category = categoryRepository.save(category);
+        List<SpellCheckCategory> spellChecks = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            SpellCheckCategory spellCheck = new SpellCheckCategory();
+            spellCheck.setName("SpellCheck_" + i);
+            spellCheck.getCategories().add(category);
+            spellChecks.add(spellCheck);
+        }
+
+        batchPersister.persistAll(spellChecks);
+
+        assertEquals(1200, spellCheckCategoryRepository.findByCategoryId(category.getId()).size());
+    }
+
+    @Test
+    void shouldRejectNonPositiveFlushInterval() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> new BatchPersister(entityManager, 0));
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package orf.demo.repository;
+
+import orf.demo.model.Category;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.sequence.NoSequenceSupport;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// H2 без нативных последовательностей: Hibernate эмулирует их таблицами, как на MySQL
+@DataJpaTest(properties = "spring.jpa.database-platform=orf.demo.repository.SequenceSeederTest$TableSequenceDialect")
+@Import(SequenceSeeder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SequenceSeederTest {
+
+    @Autowired
+    private SequenceSeeder sequenceSeeder;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldRaiseTableSequenceAboveExistingIds() {
+        // Given: строки с ключами прежней IDENTITY-схемы и свежая таблица последовательности
+        for (long id = 1; id <= 120; id++) {
+            jdbcTemplate.update("INSERT INTO category (id, name) VALUES (?, ?)", id, "legacy" + id);
+        }
+        jdbcTemplate.update("UPDATE category_seq SET next_val = 1");
+
+        // When
+        int seeded = sequenceSeeder.seed();
+        Category category = new Category();
+        category.setName("new");
+        Long id = categoryRepository.save(category).getId();
+
+        // Then
+        assertEquals(1, seeded);
+        assertEquals(121L, id);
+        assertEquals(0, sequenceSeeder.seed());
+    }
+
+    public static class TableSequenceDialect extends H2Dialect {
+
+        @Override
+        public SequenceSupport getSequenceSupport() {
+            return NoSequenceSupport.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package orf.demo.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import orf.demo.dto.MisspellingCount;
+import orf.demo.dto.SpellCheckCategoryRow;
+import orf.demo.model.Category;
+import orf.demo.model.SpellCheckCategory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Запросы выполняются вне транзакции: любая ленивая подгрузка категорий упала бы,
+ * а счётчик statement'ов Hibernate показывает, что связь грузится тем же запросом.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(BatchPersister.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SpellCheckCategoryRepositoryTest {
+
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private SpellCheckCategoryRepository spellCheckCategoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SpellingMistakeRepository spellingMistakeRepository;
+
+    @Autowired
+    private BatchPersister batchPersister;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        spellCheckCategoryRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        Category grammar = category("grammar");
+        Category style = category("style");
+        List<SpellCheckCategory> spellChecks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            SpellCheckCategory spellCheck = new SpellCheckCategory();
+            spellCheck.setName("SpellCheck_" + i);
+            spellCheck.setError(i % 2 == 0 ? "typo" : null);
+            if (i % 2 == 0) {
+                spellCheck.addMistake("typo", 0);
+            }
+            if (i % 5 == 0) {
+                spellCheck.addMistake("teh", 1);
+            }
+            spellCheck.getCategories().add(grammar);
+            spellCheck.getCategories().add(style);
+            spellChecks.add(spellCheck);
+        }
+        batchPersister.persistAll(spellChecks);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllWithCategoriesUsesSingleQuery() {
+        List<SpellCheckCategory> spellChecks = spellCheckCategoryRepository.findAllWithCategories();
+
+        assertEquals(ROWS, spellChecks.size());
+        assertCategoriesLoaded(spellChecks);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByMisspelledWordUsesSingleQuery() {
+        List<SpellCheckCategory> spellChecks =
+                spellCheckCategoryRepository.findWithCategoriesByMisspelledWordAndCategoryName("teh", "style");
+
+        assertEquals(ROWS / 5, spellChecks.size());
+        assertCategoriesLoaded(spellChecks);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void topMisspellingsAreCountedPerCategoryInSingleQuery() {
+        List<MisspellingCount> top = spellingMistakeRepository.findTopByCategoryName("grammar", Limit.of(1));
+        List<MisspellingCount> all = spellingMistakeRepository.findTop(Limit.of(10));
+
+        assertEquals(1, top.size());
+        assertEquals("typo", top.get(0).getWord());
+        assertEquals(ROWS / 2, top.get(0).getCount());
+        assertEquals(List.of("typo", "teh"), all.stream().map(MisspellingCount::getWord).toList());
+        assertEquals(ROWS / 5, all.get(1).getCount());
+        assertTrue(spellingMistakeRepository.findTopByCategoryName("missing", Limit.of(10)).isEmpty());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findRowsByCategoryNameReturnsAllCategoriesOfEachRowInSingleQuery() {
+        List<SpellCheckCategoryRow> rows = spellCheckCategoryRepository.findRowsByCategoryName("grammar");
+
+        assertEquals(2 * ROWS, rows.size());
+        assertEquals(rows.get(0).getId(), rows.get(1).getId());
+        assertEquals(Set.of("grammar", "style"), Set.of(rows.get(0).getCategoryName(), rows.get(1).getCategoryName()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void lookupColumnsAreIndexed() throws Exception {
+        assertTrue(indexNames("CATEGORY").containsAll(Set.of("IDX_CATEGORY_NAME", "IDX_CATEGORY_STATUS")));
+        Set<String> spellCheckIndexes = indexNames("SPELL_CHECKS");
+        assertTrue(spellCheckIndexes.contains("IDX_SPELL_CHECKS_STATUS"));
+        // поиск по слову идёт через spelling_mistakes, индекс на широкой строке error только замедлял бы запись
+        assertFalse(spellCheckIndexes.contains("IDX_SPELL_CHECKS_ERROR"));
+        assertTrue(indexNames("SPELL_CHECK_CATEGORIES").containsAll(Set.of(
+                "IDX_SPELL_CHECK_CATEGORIES_SPELL_CHECK", "IDX_SPELL_CHECK_CATEGORIES_CATEGORY")));
+        assertTrue(indexNames("SPELLING_MISTAKES").containsAll(Set.of(
+                "IDX_SPELLING_MISTAKES_WORD", "IDX_SPELLING_MISTAKES_SPELL_CHECK")));
+    }
+
+    private Set<String> indexNames(String table) throws Exception {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet indexes = connection.getMetaData().getIndexInfo(null, null, table, false, false)) {
+            while (indexes.next()) {
+                String name = indexes.getString("INDEX_NAME");
+                if (name != null) {
+                    names.add(name.toUpperCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+
+    private void assertCategoriesLoaded(List<SpellCheckCategory> spellChecks) {
+        for (SpellCheckCategory spellCheck : spellChecks) {
+            assertTrue(Hibernate.isInitialized(spellCheck.getCategories()));
+            assertEquals(2, spellCheck.getCategories().size());
+        }
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+}
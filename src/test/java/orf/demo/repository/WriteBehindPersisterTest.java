@@ -0,0 +1,81 @@
+package orf.demo.repository;
+
+import orf.demo.model.SpellCheckCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(BatchPersister.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindPersisterTest {
+
+    @Autowired
+    private BatchPersister batchPersister;
+
+    @Autowired
+    private SpellCheckCategoryRepository spellCheckCategoryRepository;
+
+    private WriteBehindPersister writeBehindPersister;
+
+    @BeforeEach
+    void setUp() {
+        spellCheckCategoryRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehindPersister.shutdown();
+    }
+
+    @Test
+    void shouldWriteQueuedEntitiesInBatches() throws InterruptedException {
+        writeBehindPersister = persister(Duration.ofMillis(50));
+
+        for (int i = 0; i < 250; i++) {
+            writeBehindPersister.submit(spellCheck(i));
+        }
+
+        assertTrue(writeBehindPersister.flush(Duration.ofSeconds(10)));
+        assertEquals(250, spellCheckCategoryRepository.count());
+        long batches = (long) writeBehindPersister.getStats().get("batches");
+        assertTrue(batches >= 3 && batches < 250, "batches: " + batches);
+        assertEquals(0L, writeBehindPersister.getStats().get("failed"));
+    }
+
+    @Test
+    void shouldDrainQueueOnShutdownAndRejectAfterwards() throws InterruptedException {
+        // интервал длиннее теста: без остановки первая пачка ждала бы дозаполнения
+        writeBehindPersister = persister(Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            writeBehindPersister.submit(spellCheck(i));
+        }
+
+        assertTimeout(Duration.ofSeconds(5), writeBehindPersister::shutdown);
+
+        assertEquals(10, spellCheckCategoryRepository.count());
+        assertThrows(RejectedExecutionException.class, () -> writeBehindPersister.submit(spellCheck(10)));
+    }
+
+    private WriteBehindPersister persister(Duration flushInterval) {
+        return new WriteBehindPersister(batchPersister, true, 1000, 100, flushInterval, Duration.ofSeconds(1),
+                Duration.ofSeconds(10), Thread::new);
+    }
+
+    private static SpellCheckCategory spellCheck(int i) {
+        SpellCheckCategory spellCheck = new SpellCheckCategory();
+        spellCheck.setName("SpellCheck_" + i);
+        spellCheck.setStatus("Correct");
+        return spellCheck;
+    }
+}
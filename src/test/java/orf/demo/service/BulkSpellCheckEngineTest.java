@@ -0,0 +1,84 @@
+package orf.demo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkSpellCheckEngineTest {
+
+    private BulkSpellCheckEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new BulkSpellCheckEngine(4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void shouldKeepInputOrderAcrossChunks() {
+        // Given
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            texts.add("word" + i);
+        }
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // When
+        List<String> results = engine.map(texts, text -> {
+            threads.add(Thread.currentThread().getName());
+            return text.toUpperCase();
+        });
+
+        // Then
+        assertEquals(texts.size(), results.size());
+        for (int i = 0; i < texts.size(); i++) {
+            assertEquals("WORD" + i, results.get(i));
+        }
+        assertTrue(threads.size() > 1);
+    }
+
+    @Test
+    void shouldSkipNullTextsWithoutReordering() {
+        List<String> texts = Arrays.asList("a", null, "b", null, "c");
+
+        List<String> results = engine.mapNonNull(texts, text -> text + "!");
+
+        assertEquals(Arrays.asList("a!", "b!", "c!"), results);
+    }
+
+    @Test
+    void shouldReturnEmptyListForEmptyInput() {
+        assertTrue(engine.map(Collections.emptyList(), text -> text).isEmpty());
+    }
+
+    @Test
+    void shouldPropagateExceptionsFromWorkers() {
+        List<String> texts = new ArrayList<>(Collections.nCopies(1000, "ok"));
+        texts.set(777, "bad");
+
+        assertThrows(IllegalStateException.class, () -> engine.map(texts, text -> {
+            if (text.equals("bad")) {
+                throw new IllegalStateException("bad text");
+            }
+            return text;
+        }));
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BulkSpellCheckEngine(2, 0));
+    }
+}
@@ -0,0 +1,120 @@
+package orf.demo.service;
+
+import orf.demo.cache.CacheRegion;
+import orf.demo.cache.CacheRegionSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheServiceTest {
+
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new CacheService();
+        CacheRegionSpec serialized = new CacheRegionSpec();
+        serialized.setSerialized(true);
+        serialized.setMaxBytes(1024 * 1024);
+        serialized.setTtl(Duration.ofMinutes(1));
+        cacheService.setRegions(Map.of("documents", serialized));
+    }
+
+    @Test
+    void shouldKeepDefaultRegionApi() {
+        cacheService.put("key", "value");
+
+        assertEquals("value", cacheService.get("key"));
+        cacheService.evict("key");
+        assertNull(cacheService.get("key"));
+    }
+
+    @Test
+    void shouldLoadOnlyOnceForConcurrentMisses() throws Exception {
+        // Given
+        CacheRegion<String, Integer> region = cacheService.region("lengths", String.class, Integer.class);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return region.getOrLoad("hello", key -> {
+                    loads.incrementAndGet();
+                    sleep();
+                    return key.length();
+                });
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<Integer> result : results) {
+            assertEquals(5, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldStoreSerializedValuesAsCopies() {
+        CacheRegion<String, String[]> region = cacheService.region("documents", String.class, String[].class);
+        String[] words = {"hello", "world"};
+
+        region.put("doc", words);
+        words[1] = "mutated";
+
+        assertArrayEquals(new String[]{"hello", "world"}, region.get("doc"));
+        assertEquals(true, cacheService.getStats().get("documents").get("serialized"));
+    }
+
+    @Test
+    void shouldEvictSerializedValuesBeyondMaxBytes() {
+        CacheRegionSpec small = new CacheRegionSpec();
+        small.setSerialized(true);
+        small.setMaxBytes(4096);
+        cacheService.setRegions(Map.of("small", small));
+        CacheRegion<Integer, String> region = cacheService.region("small", Integer.class, String.class);
+
+        for (int i = 0; i < 100; i++) {
+            region.put(i, "x".repeat(200));
+        }
+
+        // Caffeine вытесняет асинхронно, в своём пуле
+        for (int i = 0; i < 100 && (Long) cacheService.getStats().get("small").get("evictions") == 0; i++) {
+            sleep();
+        }
+        assertTrue((Long) cacheService.getStats().get("small").get("evictions") > 0);
+    }
+
+    @Test
+    void shouldRejectRegionWithDifferentKeyOrValueType() {
+        cacheService.region("lengths", String.class, Integer.class);
+
+        assertThrows(IllegalArgumentException.class, () -> cacheService.region("lengths", String.class, Long.class));
+        assertThrows(IllegalArgumentException.class, () -> cacheService.region("lengths", Long.class, Integer.class));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package orf.demo.service;
 
+import orf.demo.dto.CategoryView;
 import orf.demo.model.Category;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +35,7 @@ class InterfaceCategoryServiceImplTest {
         lenient().when(categoryService.createCategory("Test Category")).thenReturn(savedCategory);
 
         lenient().when(categoryService.getAllCategories())
-                .thenReturn(Arrays.asList(mock(Category.class), mock(Category.class)));
+                .thenReturn(Arrays.asList(mock(CategoryView.class), mock(CategoryView.class)));
 
         lenient().when(categoryService.getCategoryById(1L)).thenReturn(Optional.of(existingCategory));
         lenient().when(categoryService.getCategoryById(2L)).thenReturn(Optional.empty());
@@ -60,7 +61,7 @@ class InterfaceCategoryServiceImplTest {
 
     @Test
     void shouldGetAllCategoriesSuccessfully() {
-        List<Category> result = categoryService.getAllCategories();
+        List<CategoryView> result = categoryService.getAllCategories();
 
         assertEquals(2, result.size());
         verify(categoryService, times(1)).getAllCategories();
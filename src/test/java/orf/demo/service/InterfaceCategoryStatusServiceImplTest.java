@@ -1,5 +1,6 @@
 package orf.demo.service;
 
+import orf.demo.dto.CategoryView;
 import orf.demo.model.Category;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,7 +30,7 @@ class InterfaceCategoryStatusServiceImplTest {
         lenient().when(existingCategory.getId()).thenReturn(1L);
         lenient().when(updatedCategory.getStatus()).thenReturn("inactive");
 
-        List<Category> categories = Arrays.asList(mock(Category.class), mock(Category.class));
+        List<CategoryView> categories = Arrays.asList(mock(CategoryView.class), mock(CategoryView.class));
         lenient().when(categoryStatusService.getCategoriesByStatus("active")).thenReturn(categories);
 
         Map<String, Object> updateResult = new HashMap<>();
@@ -50,7 +51,7 @@ class InterfaceCategoryStatusServiceImplTest {
 
     @Test
     void shouldGetCategoriesByStatusSuccessfully() {
-        List<Category> result = categoryStatusService.getCategoriesByStatus("active");
+        List<CategoryView> result = categoryStatusService.getCategoriesByStatus("active");
 
         assertEquals(2, result.size());
         verify(categoryStatusService, times(1)).getCategoriesByStatus("active");
@@ -0,0 +1,95 @@
+package orf.demo.service;
+
+import orf.demo.checker.CachingSpellChecker;
+import orf.demo.checker.DictionarySpellChecker;
+import orf.demo.checker.SpellChecker;
+import orf.demo.checker.VocabularyHolder;
+import orf.demo.config.DictionaryLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InterfaceDictionaryServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    private InterfaceDictionaryServiceImpl service;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void shouldPublishReloadedVocabularyAndClearWordCaches() throws Exception {
+        // Given
+        Path words = Files.writeString(directory.resolve("words.txt"), "hello\n");
+        DictionaryLoader loader = new DictionaryLoader(new FileSystemResource(words), directory.resolve("words.dawg"),
+                2, 7);
+        VocabularyHolder vocabulary = new VocabularyHolder(loader.load(1));
+        CachingSpellChecker wordCache = new CachingSpellChecker("dictionary", new DictionarySpellChecker(vocabulary),
+                64);
+        service = new InterfaceDictionaryServiceImpl(loader, vocabulary, provider(wordCache), false,
+                Duration.ofSeconds(1));
+        assertEquals("Incorrect", wordCache.checkSpelling("world"));
+        // так версию закрепляет bulk-запрос, начатый до перезагрузки
+        SpellChecker pinned = wordCache.pin();
+
+        // When
+        Files.writeString(words, "hello\nworld\n");
+        long version = service.reload().get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(2, version);
+        assertEquals(2L, vocabulary.get().getVersion());
+        assertTrue(vocabulary.get().getDictionary().isMapped());
+        assertEquals("Correct", wordCache.checkSpelling("world"));
+        assertEquals("Incorrect", pinned.checkSpelling("world"));
+        assertEquals(List.of("world"), vocabulary.get().getSuggester().suggest("wrold", 1));
+        assertEquals(1L, service.getStatus().get("reloads"));
+    }
+
+    @Test
+    void shouldKeepCurrentVersionWhenReloadFails() throws Exception {
+        // Given
+        Path words = Files.writeString(directory.resolve("words.txt"), "hello\n");
+        DictionaryLoader loader = new DictionaryLoader(new FileSystemResource(words), null, 2, 7);
+        VocabularyHolder vocabulary = new VocabularyHolder(loader.load(1));
+        service = new InterfaceDictionaryServiceImpl(loader, vocabulary, provider(), false, Duration.ofSeconds(1));
+
+        // When
+        Files.delete(words);
+        CompletableFuture<Long> reload = service.reload();
+
+        // Then
+        assertThrows(ExecutionException.class, () -> reload.get(10, TimeUnit.SECONDS));
+        assertEquals(1L, vocabulary.get().getVersion());
+        assertTrue(vocabulary.get().getDictionary().contains("hello"));
+        assertEquals(1L, service.getStatus().get("failures"));
+        assertNotNull(service.getStatus().get("lastError"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CachingSpellChecker> provider(CachingSpellChecker... checkers) {
+        ObjectProvider<CachingSpellChecker> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(checkers));
+        return provider;
+    }
+}
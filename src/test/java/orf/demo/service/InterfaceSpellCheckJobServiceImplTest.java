@@ -0,0 +1,205 @@
+package orf.demo.service;
+
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.SpellCheckJobStatus;
+import orf.demo.dto.SpellCheckResponse;
+import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
+import orf.demo.service.Interface.InterfaceSpellCheckService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class InterfaceSpellCheckJobServiceImplTest {
+
+    private final InterfaceSpellCheckService spellCheckService = mock(InterfaceSpellCheckService.class);
+    private final InterfaceSpellCheckCategoryService categoryService = mock(InterfaceSpellCheckCategoryService.class);
+    private InterfaceSpellCheckJobServiceImpl jobService;
+
+    @AfterEach
+    void tearDown() {
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void shouldProcessTextsInChunksAndPageResults() throws InterruptedException {
+        when(spellCheckService.checkSpellingBulk(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<String> chunk = invocation.getArgument(0);
+            return chunk.stream().map(text -> new SpellCheckResponse(text, !text.startsWith("x"))).toList();
+        });
+        when(categoryService.saveSpellCheckResults(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        jobService = newService(1, 4, 2);
+
+        SpellCheckJobStatus submitted = jobService.submit(List.of("a", "xb", "c", "xd", "e"), 0, true);
+        SpellCheckJobStatus status = awaitTerminal(submitted.getId());
+
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(5, status.getTotal());
+        assertEquals(5, status.getProcessed());
+        assertEquals(2, status.getIncorrect());
+        assertEquals(5, status.getSaved());
+        verify(spellCheckService, times(3)).checkSpellingBulk(anyList(), eq(0));
+
+        KeysetPage<SpellCheckResponse> first = jobService.getResults(submitted.getId(), 0, 3);
+        assertEquals(List.of("a", "xb", "c"), first.getItems().stream().map(SpellCheckResponse::getText).toList());
+        assertEquals(3L, first.getNextCursor());
+        KeysetPage<SpellCheckResponse> last = jobService.getResults(submitted.getId(), 3, 3);
+        assertEquals(List.of("xd", "e"), last.getItems().stream().map(SpellCheckResponse::getText).toList());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectJobsWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(spellCheckService.checkSpellingBulk(anyList(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of(new SpellCheckResponse("a", true));
+        });
+        jobService = newService(1, 1, 10);
+
+        jobService.submit(List.of("a"), 0, false);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        jobService.submit(List.of("a"), 0, false);
+
+        assertThrows(RejectedExecutionException.class, () -> jobService.submit(List.of("a"), 0, false));
+        assertEquals(2, jobService.getStats().get("jobs"));
+        release.countDown();
+    }
+
+    @Test
+    void shouldCancelRunningJobAndNotifyListener() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        when(spellCheckService.checkSpellingBulk(anyList(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            new CountDownLatch(1).await();
+            return List.of();
+        });
+        jobService = newService(1, 1, 10);
+
+        String id = jobService.submit(List.of("a", "b"), 0, false).getId();
+        List<String> states = new CopyOnWriteArrayList<>();
+        jobService.getJob(id).subscribe(status -> states.add(status.getState()));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        SpellCheckJobStatus cancelled = jobService.cancel(id);
+
+        assertEquals("CANCELLED", cancelled.getState());
+        assertNotNull(cancelled.getFinishedAt());
+        for (int i = 0; i < 500 && !states.contains("CANCELLED"); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("CANCELLED", states.get(states.size() - 1));
+        verify(categoryService, never()).saveSpellCheckResults(anyList());
+    }
+
+    @Test
+    void shouldNotBlockWorkerOnSlowListener() throws InterruptedException {
+        when(spellCheckService.checkSpellingBulk(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<String> chunk = invocation.getArgument(0);
+            return chunk.stream().map(text -> new SpellCheckResponse(text, true)).toList();
+        });
+        jobService = newService(1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> states = new CopyOnWriteArrayList<>();
+
+        String id = jobService.submit(List.of("a", "b", "c", "d"), 0, false).getId();
+        jobService.getJob(id).subscribe(status -> {
+            states.add(status.getState());
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        SpellCheckJobStatus status = awaitTerminal(id);
+
+        assertEquals("COMPLETED", status.getState());
+        assertTrue(states.size() <= 1);
+        release.countDown();
+        for (int i = 0; i < 500 && !states.contains("COMPLETED"); i++) {
+            Thread.sleep(10);
+        }
+        // промежуточные порции схлопнулись: после разблокировки приходит сразу итог
+        assertEquals("COMPLETED", states.get(states.size() - 1));
+        assertTrue(states.size() <= 2);
+    }
+
+    @Test
+    void shouldReportFailureAndValidateArguments() throws InterruptedException {
+        when(spellCheckService.checkSpellingBulk(anyList(), anyInt())).thenThrow(new IllegalStateException("boom"));
+        jobService = newService(1, 1, 10);
+
+        String id = jobService.submit(List.of("a"), 0, false).getId();
+        SpellCheckJobStatus status = awaitTerminal(id);
+
+        assertEquals("FAILED", status.getState());
+        assertTrue(status.getError().contains("boom"));
+        assertThrows(IllegalArgumentException.class, () -> jobService.submit(List.of(), 0, false));
+        assertThrows(IllegalArgumentException.class, () -> jobService.getResults(id, -1, 10));
+        assertThrows(RuntimeException.class, () -> jobService.getStatus("missing"));
+    }
+
+    private InterfaceSpellCheckJobServiceImpl newService(int workers, int queueCapacity, int chunkSize) {
+        return newService(workers, queueCapacity, chunkSize, 1000, Duration.ofMinutes(1));
+    }
+
+    private InterfaceSpellCheckJobServiceImpl newService(int workers, int queueCapacity, int chunkSize,
+                                                         long maxRetainedTexts, Duration retention) {
+        return new InterfaceSpellCheckJobServiceImpl(spellCheckService, categoryService, workers, queueCapacity,
+                10, maxRetainedTexts, chunkSize, retention, 2, Executors.defaultThreadFactory(),
+                Executors.defaultThreadFactory());
+    }
+
+    @Test
+    void shouldCapRetainedTextsAndPurgeExpiredJobsOnSchedule() throws InterruptedException {
+        when(spellCheckService.checkSpellingBulk(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<String> chunk = invocation.getArgument(0);
+            return chunk.stream().map(text -> new SpellCheckResponse(text, true)).toList();
+        });
+        jobService = newService(1, 4, 10, 10, Duration.ofMillis(300));
+
+        String first = jobService.submit(List.of("a", "b", "c", "d", "e", "f"), 0, false).getId();
+        awaitTerminal(first);
+        // готовая задача ещё хранится: вместе с новой текстов было бы больше лимита
+        assertThrows(RejectedExecutionException.class,
+                () -> jobService.submit(List.of("a", "b", "c", "d", "e"), 0, false));
+
+        // без новых отправок задачу удаляет плановая очистка
+        for (int i = 0; i < 500 && jobService.getStats().get("jobs").equals(1); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, jobService.getStats().get("jobs"));
+        assertEquals(0L, jobService.getStats().get("retainedTexts"));
+        assertThrows(RuntimeException.class, () -> jobService.getStatus(first));
+        assertEquals(5, jobService.getStatus(jobService.submit(List.of("a", "b", "c", "d", "e"), 0, false).getId())
+                .getTotal());
+    }
+
+    private SpellCheckJobStatus awaitTerminal(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            SpellCheckJobStatus status = jobService.getStatus(id);
+            if (SpellCheckJob.State.valueOf(status.getState()).isTerminal()) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Job did not finish in time");
+    }
+}
@@ -1,11 +1,28 @@
 package orf.demo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import orf.demo.checker.DawgDictionary;
+import orf.demo.checker.DictionarySpellChecker;
+import orf.demo.checker.SimpleSpellChecker;
+import orf.demo.checker.SpellCheckerRegistry;
+import orf.demo.checker.SymSpellSuggester;
+import orf.demo.checker.VocabularyHolder;
+import orf.demo.checker.WordList;
+import orf.demo.dto.DocumentCheckResponse;
+import orf.demo.dto.MisspellingCount;
 import orf.demo.dto.SpellCheckResponse;
+import orf.demo.dto.SpellingError;
+import orf.demo.metrics.MisspellingTracker;
+import orf.demo.metrics.ServiceMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -124,4 +141,105 @@ class InterfaceSpellCheckServiceImplTest {
         assertThrows(IllegalArgumentException.class, () -> spellCheckService.checkSpellingBulkWithParams(null));
         verify(spellCheckService, times(1)).checkSpellingBulkWithParams(null);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStreamNdjsonResultsInInputOrder() throws Exception {
+        // Given
+        DawgDictionary dictionary = DawgDictionary.build(WordList.of(Arrays.asList("hello", "world")));
+        VocabularyHolder vocabulary = VocabularyHolder.of(dictionary, SymSpellSuggester.build(dictionary, 2, 7));
+        BulkSpellCheckEngine engine = new BulkSpellCheckEngine(2, 2);
+        InterfaceSpellCheckServiceImpl service = new InterfaceSpellCheckServiceImpl(
+                SpellCheckerRegistry.of(new SimpleSpellChecker()), vocabulary, engine, new ServiceMetrics(),
+                new ObjectMapper(), mock(MisspellingTracker.class), 32, 8);
+        String body = "hello\r\n\"hi\"\n\n{\"text\": \"world\"}\rhelo\nabc";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long processed = service.checkSpellingStream(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out, 0);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, processed);
+        assertEquals(5, lines.length);
+        assertEquals("{\"text\":\"hello\",\"correct\":true}", lines[0]);
+        assertEquals("{\"text\":\"hi\",\"correct\":false}", lines[1]);
+        assertEquals("{\"text\":\"world\",\"correct\":true}", lines[2]);
+        assertEquals("{\"text\":\"abc\",\"correct\":false}", lines[4]);
+
+        // до первой записанной пачки ошибка входа отклоняет запрос: длинная строка не накапливается,
+        // битый JSON не превращается в 500
+        String tooLong = "hello\n" + "x".repeat(33) + "\n";
+        assertThrows(IllegalArgumentException.class, () -> service.checkSpellingStream(
+                new ByteArrayInputStream(tooLong.getBytes(StandardCharsets.UTF_8)), new ByteArrayOutputStream(), 0));
+        IllegalArgumentException malformed = assertThrows(IllegalArgumentException.class,
+                () -> service.checkSpellingStream(new ByteArrayInputStream("hi\n{\"text\": \n".getBytes(
+                        StandardCharsets.UTF_8)), new ByteArrayOutputStream(), 0));
+        assertTrue(malformed.getMessage().contains(" 2 "));
+
+        // после записанной пачки (8 символов) ответ уже отправлен: ошибка приходит последней записью
+        String late = "hello\nworld\nhi\n{bad\nthere\n";
+        ByteArrayOutputStream lateOut = new ByteArrayOutputStream();
+        assertEquals(3, service.checkSpellingStream(
+                new ByteArrayInputStream(late.getBytes(StandardCharsets.UTF_8)), lateOut, 0));
+        String[] lateLines = lateOut.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lateLines.length);
+        assertEquals("{\"text\":\"hi\",\"correct\":false}", lateLines[2]);
+        assertTrue(lateLines[3].startsWith("{\"line\":4,\"error\":"));
+        engine.shutdown();
+    }
+
+    @Test
+    void shouldRejectSuggestionLimitAboveMaximum() {
+        // Given
+        DawgDictionary dictionary = DawgDictionary.build(WordList.of(Arrays.asList("hello", "world")));
+        BulkSpellCheckEngine engine = new BulkSpellCheckEngine(1, 16);
+        InterfaceSpellCheckServiceImpl service = new InterfaceSpellCheckServiceImpl(
+                SpellCheckerRegistry.of(new DictionarySpellChecker(dictionary)),
+                VocabularyHolder.of(dictionary, SymSpellSuggester.build(dictionary, 2, 7)), engine, new ServiceMetrics(),
+                new ObjectMapper(), mock(MisspellingTracker.class), 1024, 4096);
+
+        // When / Then
+        assertEquals(List.of("world"), service.suggest("wrold", 50));
+        assertThrows(IllegalArgumentException.class, () -> service.suggest("wrold", 51));
+        assertThrows(IllegalArgumentException.class, () -> service.suggest("wrold", -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.checkSpellingBulk(List.of("wrold"), Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> service.checkDocument("wrold", 1000, null, null));
+        engine.shutdown();
+    }
+
+    @Test
+    void shouldReturnDocumentErrorSpansWithSuggestionsAndCountMisspellings() {
+        // Given
+        DawgDictionary dictionary = DawgDictionary.build(WordList.of(Arrays.asList("hello", "world", "there")));
+        BulkSpellCheckEngine engine = new BulkSpellCheckEngine(1, 16);
+        MisspellingTracker misspellings = new MisspellingTracker(true, 4, 1024, 10, 16, Duration.ofSeconds(1), "",
+                Duration.ofMinutes(1));
+        InterfaceSpellCheckServiceImpl service = new InterfaceSpellCheckServiceImpl(
+                SpellCheckerRegistry.of(new DictionarySpellChecker(dictionary)),
+                VocabularyHolder.of(dictionary, SymSpellSuggester.build(dictionary, 2, 7)), engine, new ServiceMetrics(),
+                new ObjectMapper(), misspellings, 1024, 4096);
+
+        // When
+        DocumentCheckResponse response = service.checkDocument("Hello, wrold! See https://x.io 42 there.", 3, null, null);
+        service.checkDocument("wrold", 0, null, "news");
+        misspellings.refresh();
+
+        // Then
+        assertEquals(4, response.getWords());
+        assertEquals(2, response.getErrors().size());
+        SpellingError first = response.getErrors().get(0);
+        assertEquals(7, first.getOffset());
+        assertEquals(5, first.getLength());
+        assertEquals("wrold", first.getWord());
+        assertEquals(List.of("world"), first.getSuggestions());
+        assertEquals("See", response.getErrors().get(1).getWord());
+        assertThrows(IllegalArgumentException.class, () -> service.checkDocument(null, 0, null, null));
+        assertEquals(List.of("wrold", "see"), service.getTopMisspellings(null, 10).stream()
+                .map(MisspellingCount::getWord).toList());
+        assertEquals(2, service.getTopMisspellings(null, 1).get(0).getCount());
+        assertEquals(1, service.getTopMisspellings("news", 10).size());
+        engine.shutdown();
+    }
+}
@@ -0,0 +1,129 @@
+package orf.demo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import orf.demo.dto.CategoryView;
+import orf.demo.dto.KeysetPage;
+import orf.demo.dto.SpellCheckCategoryView;
+import orf.demo.model.Category;
+import orf.demo.model.SpellCheckCategory;
+import orf.demo.repository.BatchPersister;
+import orf.demo.repository.CategoryRepository;
+import orf.demo.repository.SpellCheckCategoryRepository;
+import orf.demo.service.Interface.InterfaceCategoryService;
+import orf.demo.service.Interface.InterfaceSpellCheckCategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class KeysetListingTest {
+
+    private static final int SPELL_CHECKS = 250;
+
+    @Autowired
+    private InterfaceCategoryService categoryService;
+
+    @Autowired
+    private InterfaceSpellCheckCategoryService spellCheckCategoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SpellCheckCategoryRepository spellCheckCategoryRepository;
+
+    @Autowired
+    private BatchPersister batchPersister;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        spellCheckCategoryRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        Category grammar = categoryService.createCategory("grammar");
+        Category style = categoryService.createCategory("style");
+        List<SpellCheckCategory> spellChecks = new ArrayList<>();
+        for (int i = 0; i < SPELL_CHECKS; i++) {
+            SpellCheckCategory spellCheck = new SpellCheckCategory();
+            spellCheck.setName("SpellCheck_" + i);
+            spellCheck.getCategories().add(grammar);
+            if (i % 3 == 0) {
+                spellCheck.getCategories().add(style);
+            }
+            spellChecks.add(spellCheck);
+        }
+        batchPersister.persistAll(spellChecks);
+    }
+
+    @Test
+    void shouldWalkAllSpellChecksByCursor() {
+        Set<Long> seen = new HashSet<>();
+        int withTwoCategories = 0;
+        Long cursor = null;
+        do {
+            KeysetPage<SpellCheckCategoryView> page = spellCheckCategoryService.getSpellChecksPage(cursor, 64);
+            for (SpellCheckCategoryView view : page.getItems()) {
+                assertTrue(cursor == null || view.getId() > cursor);
+                assertTrue(seen.add(view.getId()));
+                if (view.getCategories().size() == 2) {
+                    withTwoCategories++;
+                }
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(SPELL_CHECKS, seen.size());
+        assertEquals((SPELL_CHECKS + 2) / 3, withTwoCategories);
+    }
+
+    @Test
+    void shouldReturnLastCategoryPageWithoutCursor() {
+        KeysetPage<CategoryView> first = categoryService.getCategoriesPage(null, 1);
+        KeysetPage<CategoryView> second = categoryService.getCategoriesPage(first.getNextCursor(), 5);
+
+        assertEquals("grammar", first.getItems().get(0).getName());
+        assertEquals(List.of("style"), second.getItems().stream().map(CategoryView::getName).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectOutOfRangeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> categoryService.getCategoriesPage(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> spellCheckCategoryService.getSpellChecksPage(null, 5000));
+    }
+
+    @Test
+    void shouldExportOneJsonLinePerSpellCheck() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = spellCheckCategoryService.exportSpellChecks(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(SPELL_CHECKS, written);
+        assertEquals(SPELL_CHECKS, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("SpellCheck_0", first.get("name").asText());
+        assertEquals(2, first.get("categories").size());
+    }
+
+    @Test
+    void shouldExportCategories() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, categoryService.exportCategories(out));
+        assertEquals(2, out.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+}
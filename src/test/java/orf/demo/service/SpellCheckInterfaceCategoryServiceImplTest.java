@@ -1,5 +1,6 @@
 package orf.demo.service;
 
+import orf.demo.dto.SpellCheckCategoryView;
 import orf.demo.model.Category;
 import orf.demo.model.SpellCheckCategory;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,21 +27,19 @@ class SpellCheckInterfaceCategoryServiceImplTest {
         SpellCheckCategory spellCheck = mock(SpellCheckCategory.class);
         SpellCheckCategory savedSpellCheck = mock(SpellCheckCategory.class);
         SpellCheckCategory updatedSpellCheck = mock(SpellCheckCategory.class);
-        SpellCheckCategory assignedSpellCheck = mock(SpellCheckCategory.class);
         Category category = mock(Category.class);
 
         lenient().when(spellCheck.getId()).thenReturn(1L);
         lenient().when(savedSpellCheck.getName()).thenReturn("test");
         lenient().when(updatedSpellCheck.getId()).thenReturn(1L);
         lenient().when(updatedSpellCheck.getName()).thenReturn("new");
-        lenient().when(assignedSpellCheck.getId()).thenReturn(1L);
         lenient().when(category.getId()).thenReturn(2L);
 
         lenient().when(spellCheckCategoryService.getAllSpellChecks())
                 .thenReturn(Arrays.asList(mock(SpellCheckCategory.class), mock(SpellCheckCategory.class)));
 
-        lenient().when(spellCheckCategoryService.getSpellCheckById(1L)).thenReturn(Optional.of(spellCheck));
-        lenient().when(spellCheckCategoryService.getSpellCheckById(2L)).thenReturn(Optional.empty());
+        lenient().when(spellCheckCategoryService.getSpellCheckById(1L)).thenReturn(spellCheck);
+        lenient().when(spellCheckCategoryService.getSpellCheckById(2L)).thenReturn(null);
 
         lenient().when(spellCheckCategoryService.saveSpellCheck(any(SpellCheckCategory.class)))
                 .thenReturn(savedSpellCheck);
@@ -53,16 +52,13 @@ class SpellCheckInterfaceCategoryServiceImplTest {
         lenient().doNothing().when(spellCheckCategoryService).deleteSpellCheck(1L);
         lenient().doThrow(new RuntimeException()).when(spellCheckCategoryService).deleteSpellCheck(2L);
 
-        // Настройка поведения для assignCategoryToSpellCheck
-        lenient().when(spellCheckCategoryService.assignCategoryToSpellCheck(1L, 2L))
-                .thenReturn(assignedSpellCheck);
-
         lenient().doNothing().when(spellCheckCategoryService).addCategoryToSpellCheck(1L, 2L);
 
         lenient().doNothing().when(spellCheckCategoryService).removeCategoryFromSpellCheck(1L, 2L);
 
-        lenient().when(spellCheckCategoryService.getSpellChecksByCategory(String.valueOf(1L)))
-                .thenReturn(Arrays.asList(mock(SpellCheckCategory.class), mock(SpellCheckCategory.class)));
+        lenient().when(spellCheckCategoryService.getSpellChecksByCategory("grammar"))
+                .thenReturn(Arrays.asList(new SpellCheckCategoryView(1L, "first", "Correct", null),
+                        new SpellCheckCategoryView(2L, "second", "Incorrect", null)));
     }
 
     @Test
@@ -137,16 +133,6 @@ class SpellCheckInterfaceCategoryServiceImplTest {
         verify(spellCheckCategoryService, times(1)).deleteSpellCheck(2L);
     }
 
-    @Test
-    void shouldAssignCategoryToSpellCheckSuccessfully() {
-        SpellCheckCategory result = spellCheckCategoryService.assignCategoryToSpellCheck(1L, 2L);
-
-        assertNotNull(result);
-        assertEquals(1L, result.getId());
-        verify(spellCheckCategoryService, times(1)).assignCategoryToSpellCheck(1L, 2L);
-        verify(result, times(1)).getId();
-    }
-
     @Test
     void shouldAddCategoryToSpellCheckSuccessfully() {
         spellCheckCategoryService.addCategoryToSpellCheck(1L, 2L);
@@ -163,9 +149,9 @@ class SpellCheckInterfaceCategoryServiceImplTest {
 
     @Test
     void shouldGetSpellChecksByCategorySuccessfully() {
-        List<SpellCheckCategory> result = spellCheckCategoryService.getSpellChecksByCategory(1L);
+        List<SpellCheckCategoryView> result = spellCheckCategoryService.getSpellChecksByCategory("grammar");
 
         assertEquals(2, result.size());
-        verify(spellCheckCategoryService, times(1)).getSpellChecksByCategory(1L);
+        verify(spellCheckCategoryService, times(1)).getSpellChecksByCategory("grammar");
     }
 }
\ No newline at end of file